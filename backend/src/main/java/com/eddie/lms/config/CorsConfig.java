@@ -28,7 +28,7 @@ public class CorsConfig {
         configuration.setAllowCredentials(true);
 
         // S3 업로드를 위해 추가
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", "X-Total-Count"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -5,7 +5,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 스케줄링 설정
- * QuizSessionService의 @Scheduled 메서드 활성화
+ * 퀴즈 세션 만료, write-behind 저장 등 @Scheduled 메서드 활성화
  */
 @Configuration
 @EnableScheduling
@@ -67,7 +67,8 @@ public class SecurityConfig {
                                 "/api/auth/register",  // 회원가입 (추가 검증 로직 포함)
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
-                                "/actuator/health"   // health check만 공개
+                                "/actuator/health",   // health check만 공개
+                                "/ws"   // WebSocket 핸드셰이크 (STOMP CONNECT에서 JWT 인증)
                         ).permitAll()
 
                         // 교육자만 접근 가능한 엔드포인트
@@ -79,14 +80,23 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/classrooms/*/quizzes").hasRole("EDUCATOR")  // 퀴즈 생성
                         .requestMatchers(HttpMethod.PUT, "/api/classrooms/*/quizzes/*").hasRole("EDUCATOR")  // 퀴즈 수정
                         .requestMatchers(HttpMethod.DELETE, "/api/classrooms/*/quizzes/*").hasRole("EDUCATOR")  // 퀴즈 삭제
+                        .requestMatchers(HttpMethod.POST, "/api/classrooms/*/quizzes/*/regrade").hasRole("EDUCATOR")  // 재채점
+                        .requestMatchers(HttpMethod.GET, "/api/classrooms/*/quizzes/*/regrade/*").hasRole("EDUCATOR")
+                        .requestMatchers(HttpMethod.POST, "/api/classrooms/*/quizzes/*/collusion/analyze").hasRole("EDUCATOR")  // 답안 유사도 분석
+                        .requestMatchers(HttpMethod.GET, "/api/classrooms/*/lessons/statistics").hasRole("EDUCATOR")  // 수업 통계
 
                         // 학습자만 접근 가능한 엔드포인트
                         .requestMatchers(HttpMethod.POST, "/api/classrooms/*/assignments/*/submissions").hasRole("LEARNER")  // 과제 제출 (학습자만)
                         .requestMatchers(HttpMethod.POST, "/api/classrooms/*/quizzes/*/submit").hasRole("LEARNER")  // 퀴즈 제출
+                        .requestMatchers(HttpMethod.POST, "/api/classrooms/*/quizzes/*/submissions").hasRole("LEARNER")  // 퀴즈 비동기 제출
+                        .requestMatchers(HttpMethod.GET, "/api/classrooms/*/quizzes/*/submissions/*").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/start").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/*/progress").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/*/tab-switch").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/*/violation").hasRole("LEARNER")
+                        .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/*/warning").hasRole("LEARNER")
+                        .requestMatchers(HttpMethod.PUT, "/api/quiz-sessions/*/draft").hasRole("LEARNER")
+                        .requestMatchers(HttpMethod.GET, "/api/quiz-sessions/*/draft").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/*/complete").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.POST, "/api/quiz-sessions/*/terminate").hasRole("LEARNER")
                         .requestMatchers(HttpMethod.GET, "/api/quiz-sessions/*/status").hasRole("LEARNER")
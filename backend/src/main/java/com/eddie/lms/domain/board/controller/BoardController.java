@@ -9,8 +9,12 @@ import com.eddie.lms.domain.board.dto.response.PostDetailResponse;
 import com.eddie.lms.domain.board.dto.response.PostResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -23,6 +27,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BoardService boardService;
 
     /** 게시글 생성 */
@@ -37,15 +44,34 @@ public class BoardController {
         );
     }
 
-    /** 게시글 목록 조회 (검색 포함) */
+    /**
+     * 게시글 목록 조회 (검색 포함)
+     * page 또는 size를 지정하면 해당 페이지만 반환하고 전체 건수는 X-Total-Count 헤더로 전달
+     */
     @GetMapping("/posts")
     public ResponseEntity<List<PostResponse>> getPosts(
             @PathVariable Long classroomId,
-            @RequestParam(required = false) String search) {
-
-        return ResponseEntity.ok(
-                boardService.getPosts(classroomId, search)
-        );
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+
+        if (page == null && size == null) {
+            return ResponseEntity.ok(
+                    boardService.getPosts(classroomId, search)
+            );
+        }
+
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageNumber < 0 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Page<PostResponse> posts = boardService.getPosts(classroomId, search, PageRequest.of(pageNumber, pageSize));
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(posts.getTotalElements()))
+                .body(posts.getContent());
     }
 
     /** 게시글 상세 (댓글 포함) */
@@ -0,0 +1,23 @@
+package com.eddie.lms.domain.board.repository;
+
+import com.eddie.lms.domain.board.entity.BoardPost;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 (검색 색인 위임)
+ */
+public interface BoardPostRepositoryCustom {
+
+    /**
+     * 게시글 제목/내용으로 검색 (삭제된 글 제외) (관련도순)
+     */
+    List<BoardPost> findByClassroomIdAndSearchTerm(Long classroomId, String search);
+
+    /**
+     * 게시글 제목/내용으로 검색 (삭제된 글 제외) (관련도순, 페이지 단위)
+     */
+    Page<BoardPost> findByClassroomIdAndSearchTerm(Long classroomId, String search, Pageable pageable);
+}
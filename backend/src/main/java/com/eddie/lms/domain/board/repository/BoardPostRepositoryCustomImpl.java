@@ -0,0 +1,43 @@
+package com.eddie.lms.domain.board.repository;
+
+import com.eddie.lms.domain.board.entity.BoardPost;
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 구현 - 색인에서 순위순 ID를 받아 해당 엔티티만 조회
+ */
+@RequiredArgsConstructor
+public class BoardPostRepositoryCustomImpl implements BoardPostRepositoryCustom {
+
+    private final ClassroomSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BoardPost> findByClassroomIdAndSearchTerm(Long classroomId, String search) {
+        return load(searchIndex.search(ClassroomSearchIndex.DocumentType.POST, classroomId, search, 0, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public Page<BoardPost> findByClassroomIdAndSearchTerm(Long classroomId, String search, Pageable pageable) {
+        ClassroomSearchIndex.SearchHits hits = searchIndex.search(ClassroomSearchIndex.DocumentType.POST,
+                classroomId, search, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(load(hits), pageable, hits.getTotal());
+    }
+
+    private List<BoardPost> load(ClassroomSearchIndex.SearchHits hits) {
+        return hits.load(ids -> entityManager
+                .createQuery("SELECT e FROM BoardPost e WHERE e.postId IN :ids AND e.isDeleted = false", BoardPost.class)
+                .setParameter("ids", ids)
+                .getResultList(), BoardPost::getPostId);
+    }
+}
@@ -10,10 +10,13 @@ import com.eddie.lms.domain.board.entity.BoardComment;
 import com.eddie.lms.domain.board.entity.BoardPost;
 import com.eddie.lms.domain.board.repository.BoardCommentRepository;
 import com.eddie.lms.domain.board.repository.BoardPostRepository;
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex;
 import com.eddie.lms.domain.user.entity.User;
 import com.eddie.lms.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -32,6 +35,7 @@ public class BoardService {
     private final BoardPostRepository boardPostRepository;
     private final BoardCommentRepository boardCommentRepository;
     private final UserRepository userRepository;
+    private final ClassroomSearchIndex searchIndex;
 
     // ===== 게시글 =====
 
@@ -51,6 +55,7 @@ public class BoardService {
                         .isDeleted(false)
                         .build()
         );
+        indexPost(saved);
 
         return toPostResponse(saved, author);
     }
@@ -70,6 +75,22 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 게시글 목록 페이지 조회 (검색은 관련도순, 그 외 최신순)
+     */
+    public Page<PostResponse> getPosts(Long classroomId, String search, Pageable pageable) {
+        log.info("Getting posts for classroom: {}, search: {}, page: {}", classroomId, search, pageable);
+
+        Page<BoardPost> posts = (search != null && !search.trim().isEmpty())
+                ? boardPostRepository.findByClassroomIdAndSearchTerm(classroomId, search, pageable)
+                : boardPostRepository.findByClassroomIdAndIsDeletedFalseOrderByCreatedAtDesc(classroomId, pageable);
+
+        return posts.map(p -> {
+            User author = userRepository.findById(p.getAuthorId()).orElse(null);
+            return toPostResponse(p, author);
+        });
+    }
+
     public PostDetailResponse getPost(Long classroomId, Long postId) {
         log.info("Getting post: {} in classroom: {}", postId, classroomId);
 
@@ -112,6 +133,7 @@ public class BoardService {
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
         BoardPost updated = boardPostRepository.save(post);
+        indexPost(updated);
 
         User author = userRepository.findById(authorId).orElse(null);
         return toPostResponse(updated, author);
@@ -128,6 +150,7 @@ public class BoardService {
 
         post.setIsDeleted(true); // 논리 삭제
         boardPostRepository.save(post);
+        searchIndex.remove(ClassroomSearchIndex.DocumentType.POST, post.getClassroomId(), postId);
     }
 
     // ===== 댓글 =====
@@ -203,6 +226,13 @@ public class BoardService {
                 .build();
     }
 
+    // ===== 검색 색인 헬퍼 =====
+
+    private void indexPost(BoardPost post) {
+        searchIndex.index(ClassroomSearchIndex.DocumentType.POST, post.getClassroomId(), post.getPostId(),
+                post.getTitle(), post.getContent(), ClassroomSearchIndex.newestFirst(post.getCreatedAt()));
+    }
+
     // ===== 검증/조회 헬퍼 =====
 
     private BoardPost getPostOr404(Long postId) {
@@ -10,4 +10,5 @@ public interface ClassroomMemberRepository extends JpaRepository<ClassroomMember
     List<ClassroomMember> findByUserIdAndStatus(Long userId, ClassroomMember.MemberStatus status);
     List<ClassroomMember> findByClassroomIdAndStatus(Long classroomId, ClassroomMember.MemberStatus status);
     boolean existsByClassroomIdAndUserId(Long classroomId, Long userId);
+    long countByClassroomIdAndStatus(Long classroomId, ClassroomMember.MemberStatus status);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.eddie.lms.domain.lesson.controller;
 import com.eddie.lms.domain.lesson.dto.request.*;
 import com.eddie.lms.domain.lesson.dto.response.*;
 import com.eddie.lms.domain.lesson.service.LessonService;
+import com.eddie.lms.domain.lesson.service.LessonStatisticsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ import java.util.Map;
 public class LessonController {
 
     private final LessonService lessonService;
+    private final LessonStatisticsService lessonStatisticsService;
 
     // ============================================================================
     // 수업 관리
@@ -69,6 +71,24 @@ public class LessonController {
         }
     }
 
+    /**
+     * 클래스룸 수업 통계 조회 (교육자만 가능)
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<LessonStatisticsResponse> getLessonStatistics(
+            @PathVariable Long classroomId) {
+
+        log.info("GET /api/classrooms/{}/lessons/statistics - Fetching lesson statistics", classroomId);
+
+        try {
+            LessonStatisticsResponse response = lessonStatisticsService.getStatistics(classroomId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Failed to fetch lesson statistics: ", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 특정 수업 상세 조회
      */
@@ -13,7 +13,7 @@ import java.util.Optional;
  * 커리큘럼 레포지토리
  */
 @Repository
-public interface CurriculumRepository extends JpaRepository<Curriculum, Long> {
+public interface CurriculumRepository extends JpaRepository<Curriculum, Long>, CurriculumRepositoryCustom {
 
     /**
      * 클래스룸별 커리큘럼 목록 조회 (순서대로)
@@ -41,16 +41,6 @@ public interface CurriculumRepository extends JpaRepository<Curriculum, Long> {
     @Query("SELECT MAX(c.orderIndex) FROM Curriculum c WHERE c.classroomId = :classroomId")
     Integer findMaxOrderIndexByClassroomId(@Param("classroomId") Long classroomId);
 
-    /**
-     * 커리큘럼 제목으로 검색
-     */
-    @Query("SELECT c FROM Curriculum c WHERE c.classroomId = :classroomId " +
-            "AND (LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "ORDER BY c.orderIndex ASC")
-    List<Curriculum> searchCurriculums(@Param("classroomId") Long classroomId,
-                                       @Param("keyword") String keyword);
-
     /**
      * 특정 순서의 커리큘럼 조회
      */
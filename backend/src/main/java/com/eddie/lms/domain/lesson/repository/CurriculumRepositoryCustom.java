@@ -0,0 +1,23 @@
+package com.eddie.lms.domain.lesson.repository;
+
+import com.eddie.lms.domain.lesson.entity.Curriculum;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 커리큘럼 검색 (검색 색인 위임)
+ */
+public interface CurriculumRepositoryCustom {
+
+    /**
+     * 커리큘럼 제목/설명으로 검색 (관련도순)
+     */
+    List<Curriculum> searchCurriculums(Long classroomId, String keyword);
+
+    /**
+     * 커리큘럼 제목/설명으로 검색 (관련도순, 페이지 단위)
+     */
+    Page<Curriculum> searchCurriculums(Long classroomId, String keyword, Pageable pageable);
+}
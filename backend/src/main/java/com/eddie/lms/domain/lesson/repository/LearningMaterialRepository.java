@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -53,6 +54,15 @@ public interface LearningMaterialRepository extends JpaRepository<LearningMateri
      */
     long countByLessonLessonId(Long lessonId);
 
+    /**
+     * 여러 수업의 학습자료 개수를 한 번에 조회 (lessonId, count)
+     * 자료가 없는 수업은 결과에 포함되지 않음
+     */
+    @Query("SELECT lm.lesson.lessonId, COUNT(lm) FROM LearningMaterial lm " +
+            "WHERE lm.lesson.lessonId IN :lessonIds " +
+            "GROUP BY lm.lesson.lessonId")
+    List<Object[]> countByLessonIds(@Param("lessonIds") Collection<Long> lessonIds);
+
     /**
      * 특정 클래스룸의 전체 학습자료 개수 조회
      */
@@ -6,11 +6,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface LessonRepository extends JpaRepository<Lesson, Long> {
+public interface LessonRepository extends JpaRepository<Lesson, Long>, LessonRepositoryCustom {
 
     /**
      * 클래스룸별 수업 목록 조회 (생성일 순)
@@ -22,6 +23,11 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
      */
     List<Lesson> findByCurriculumIdOrderByCreatedAtAsc(Long curriculumId);
 
+    /**
+     * 여러 커리큘럼의 수업 목록 한 번에 조회 (생성일순)
+     */
+    List<Lesson> findByCurriculumIdInOrderByCreatedAtAsc(Collection<Long> curriculumIds);
+
     /**
      * 클래스룸의 특정 유형 수업 조회
      */
@@ -32,16 +38,6 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
      */
     Optional<Lesson> findByLessonIdAndClassroomId(Long lessonId, Long classroomId);
 
-    /**
-     * 수업 제목으로 검색
-     */
-    @Query("SELECT l FROM Lesson l WHERE l.classroomId = :classroomId " +
-            "AND (LOWER(l.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(l.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "ORDER BY l.createdAt DESC")
-    List<Lesson> searchLessons(@Param("classroomId") Long classroomId,
-                               @Param("keyword") String keyword);
-
     /**
      * 클래스룸별 수업 통계 조회 (단순화됨)
      */
@@ -0,0 +1,23 @@
+package com.eddie.lms.domain.lesson.repository;
+
+import com.eddie.lms.domain.lesson.entity.Lesson;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 수업 검색 (검색 색인 위임)
+ */
+public interface LessonRepositoryCustom {
+
+    /**
+     * 수업 제목/설명으로 검색 (관련도순)
+     */
+    List<Lesson> searchLessons(Long classroomId, String keyword);
+
+    /**
+     * 수업 제목/설명으로 검색 (관련도순, 페이지 단위)
+     */
+    Page<Lesson> searchLessons(Long classroomId, String keyword, Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package com.eddie.lms.domain.lesson.repository;
+
+import com.eddie.lms.domain.lesson.entity.Lesson;
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 수업 검색 구현 - 색인에서 순위순 ID를 받아 해당 엔티티만 조회
+ */
+@RequiredArgsConstructor
+public class LessonRepositoryCustomImpl implements LessonRepositoryCustom {
+
+    private final ClassroomSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Lesson> searchLessons(Long classroomId, String keyword) {
+        return load(searchIndex.search(ClassroomSearchIndex.DocumentType.LESSON, classroomId, keyword, 0, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public Page<Lesson> searchLessons(Long classroomId, String keyword, Pageable pageable) {
+        ClassroomSearchIndex.SearchHits hits = searchIndex.search(ClassroomSearchIndex.DocumentType.LESSON,
+                classroomId, keyword, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(load(hits), pageable, hits.getTotal());
+    }
+
+    private List<Lesson> load(ClassroomSearchIndex.SearchHits hits) {
+        return hits.load(ids -> entityManager
+                .createQuery("SELECT e FROM Lesson e WHERE e.lessonId IN :ids", Lesson.class)
+                .setParameter("ids", ids)
+                .getResultList(), Lesson::getLessonId);
+    }
+}
@@ -0,0 +1,146 @@
+package com.eddie.lms.domain.lesson.service;
+
+import com.eddie.lms.domain.lesson.dto.response.CurriculumResponse;
+import com.eddie.lms.domain.lesson.dto.response.LessonResponse;
+import com.eddie.lms.domain.lesson.entity.Curriculum;
+import com.eddie.lms.domain.lesson.entity.Lesson;
+import com.eddie.lms.domain.lesson.repository.CurriculumRepository;
+import com.eddie.lms.domain.lesson.repository.LearningMaterialRepository;
+import com.eddie.lms.domain.lesson.repository.LessonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 커리큘럼 → 수업 → 학습자료 개수 트리 조립
+ * 커리큘럼 목록이 주어지면 수업 일괄 조회 1회, 자료 개수 그룹 집계 1회로 트리 전체를 메모리에서 구성
+ * 수업 목록도 자료 개수 그룹 집계 1회, 커리큘럼 ID 일괄 조회 1회로 변환
+ * (커리큘럼/수업 수와 무관하게 쿼리 수 일정)
+ */
+@Component
+@RequiredArgsConstructor
+public class CurriculumTreeAssembler {
+
+    private final LessonRepository lessonRepository;
+    private final CurriculumRepository curriculumRepository;
+    private final LearningMaterialRepository learningMaterialRepository;
+
+    /**
+     * 커리큘럼 목록을 수업 포함 응답으로 변환 (입력 순서 유지)
+     */
+    public List<CurriculumResponse> assemble(List<Curriculum> curriculums) {
+        if (curriculums.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Curriculum> curriculumsById = new LinkedHashMap<>();
+        curriculums.forEach(curriculum -> curriculumsById.put(curriculum.getCurriculumId(), curriculum));
+
+        List<Lesson> lessons = lessonRepository.findByCurriculumIdInOrderByCreatedAtAsc(curriculumsById.keySet());
+        Map<Long, Long> materialCounts = countMaterials(lessons.stream()
+                .map(Lesson::getLessonId)
+                .collect(Collectors.toList()));
+
+        // 생성일순으로 조회했으므로 커리큘럼별 목록도 생성일순
+        Map<Long, List<LessonResponse>> lessonsByCurriculum = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            Curriculum curriculum = curriculumsById.get(lesson.getCurriculumId());
+            lessonsByCurriculum.computeIfAbsent(lesson.getCurriculumId(), id -> new ArrayList<>())
+                    .add(toLessonResponse(lesson, curriculum.getTitle(),
+                            materialCounts.getOrDefault(lesson.getLessonId(), 0L)));
+        }
+
+        return curriculums.stream()
+                .map(curriculum -> toCurriculumResponse(curriculum,
+                        lessonsByCurriculum.getOrDefault(curriculum.getCurriculumId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 수업 목록을 응답으로 변환 (입력 순서 유지, 커리큘럼 지연 로딩 없음)
+     */
+    public List<LessonResponse> assembleLessons(List<Lesson> lessons) {
+        if (lessons.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Long> materialCounts = countMaterials(lessons.stream()
+                .map(Lesson::getLessonId)
+                .collect(Collectors.toList()));
+
+        Set<Long> curriculumIds = lessons.stream()
+                .map(Lesson::getCurriculumId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> curriculumTitles = new HashMap<>();
+        if (!curriculumIds.isEmpty()) {
+            curriculumRepository.findAllById(curriculumIds)
+                    .forEach(curriculum -> curriculumTitles.put(curriculum.getCurriculumId(), curriculum.getTitle()));
+        }
+
+        return lessons.stream()
+                .map(lesson -> toLessonResponse(lesson,
+                        lesson.getCurriculumId() != null ? curriculumTitles.get(lesson.getCurriculumId()) : null,
+                        materialCounts.getOrDefault(lesson.getLessonId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 수업 ID별 학습자료 개수 (자료가 없는 수업은 포함되지 않음)
+     */
+    public Map<Long, Long> countMaterials(Collection<Long> lessonIds) {
+        if (lessonIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : learningMaterialRepository.countByLessonIds(lessonIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * 수업 엔티티를 응답 DTO로 변환 (커리큘럼 제목과 자료 개수는 호출 측에서 조회한 값 사용)
+     */
+    public LessonResponse toLessonResponse(Lesson lesson, String curriculumTitle, long totalMaterials) {
+        return LessonResponse.builder()
+                .lessonId(lesson.getLessonId())
+                .curriculumId(lesson.getCurriculumId())
+                .curriculumTitle(curriculumTitle)
+                .title(lesson.getTitle())
+                .description(lesson.getDescription())
+                .lessonType(lesson.getLessonType())
+                .lessonTypeName(lesson.getLessonType().getDisplayName())
+                .status("활성") // 단순한 상태
+                .createdAt(lesson.getCreatedAt())
+                .updatedAt(lesson.getUpdatedAt())
+                .totalMaterials(totalMaterials)
+                .build();
+    }
+
+    // === Private Helper Methods ===
+
+    private CurriculumResponse toCurriculumResponse(Curriculum curriculum, List<LessonResponse> lessons) {
+        return CurriculumResponse.builder()
+                .curriculumId(curriculum.getCurriculumId())
+                .title(curriculum.getTitle())
+                .description(curriculum.getDescription())
+                .orderIndex(curriculum.getOrderIndex())
+                .createdAt(curriculum.getCreatedAt())
+                .updatedAt(curriculum.getUpdatedAt())
+                .lessonCount(lessons.size())
+                .lessons(lessons)
+                .build();
+    }
+}
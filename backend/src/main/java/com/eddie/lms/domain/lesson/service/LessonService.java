@@ -4,13 +4,14 @@ import com.eddie.lms.domain.lesson.dto.request.*;
 import com.eddie.lms.domain.lesson.dto.response.*;
 import com.eddie.lms.domain.lesson.entity.*;
 import com.eddie.lms.domain.lesson.repository.*;
+import com.eddie.lms.domain.progress.service.LessonProgressCounter;
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 수업 서비스
@@ -24,6 +25,9 @@ public class LessonService {
     private final LessonRepository lessonRepository;
     private final CurriculumRepository curriculumRepository;
     private final LearningMaterialRepository learningMaterialRepository;
+    private final CurriculumTreeAssembler curriculumTreeAssembler;
+    private final LessonProgressCounter lessonProgressCounter;
+    private final ClassroomSearchIndex searchIndex;
 
     // ============================================================================
     // 수업 관리
@@ -51,6 +55,8 @@ public class LessonService {
                 .build();
 
         lesson = lessonRepository.save(lesson);
+        lessonProgressCounter.create(lesson.getLessonId());
+        indexLesson(lesson);
 
         log.info("Lesson created successfully with ID: {}", lesson.getLessonId());
         return convertToLessonResponse(lesson);
@@ -82,6 +88,7 @@ public class LessonService {
         }
 
         lesson = lessonRepository.save(lesson);
+        indexLesson(lesson);
         log.info("Lesson updated successfully: {}", lessonId);
 
         return convertToLessonResponse(lesson);
@@ -96,6 +103,8 @@ public class LessonService {
 
         Lesson lesson = findLessonByIdAndClassroom(lessonId, classroomId);
         lessonRepository.delete(lesson);
+        lessonProgressCounter.remove(lessonId);
+        searchIndex.remove(ClassroomSearchIndex.DocumentType.LESSON, classroomId, lessonId);
 
         log.info("Lesson deleted successfully: {}", lessonId);
     }
@@ -108,9 +117,8 @@ public class LessonService {
 
         List<Lesson> lessons = lessonRepository.findByClassroomIdOrderByCreatedAtDesc(classroomId);
 
-        return lessons.stream()
-                .map(this::convertToLessonResponse)
-                .collect(Collectors.toList());
+        // 자료 개수와 커리큘럼 제목은 수업별로 조회하지 않고 일괄 조회
+        return curriculumTreeAssembler.assembleLessons(lessons);
     }
 
     /**
@@ -154,6 +162,7 @@ public class LessonService {
                 .build();
 
         curriculum = curriculumRepository.save(curriculum);
+        indexCurriculum(curriculum);
         log.info("Curriculum created successfully with ID: {}", curriculum.getCurriculumId());
 
         return convertToCurriculumResponse(curriculum);
@@ -177,6 +186,7 @@ public class LessonService {
 
         curriculum.updateInfo(request.getTitle(), request.getDescription(), request.getOrderIndex());
         curriculum = curriculumRepository.save(curriculum);
+        indexCurriculum(curriculum);
 
         log.info("Curriculum updated successfully: {}", curriculumId);
         return convertToCurriculumResponse(curriculum);
@@ -197,6 +207,7 @@ public class LessonService {
         lessonRepository.saveAll(lessons);
 
         curriculumRepository.delete(curriculum);
+        searchIndex.remove(ClassroomSearchIndex.DocumentType.CURRICULUM, classroomId, curriculumId);
         log.info("Curriculum deleted successfully: {}", curriculumId);
     }
 
@@ -208,9 +219,8 @@ public class LessonService {
 
         List<Curriculum> curriculums = curriculumRepository.findByClassroomIdOrderByOrderIndexAsc(classroomId);
 
-        return curriculums.stream()
-                .map(this::convertToCurriculumResponse)
-                .collect(Collectors.toList());
+        // 커리큘럼별 수업/자료 개수를 따로 조회하지 않고 한 번에 조립
+        return curriculumTreeAssembler.assemble(curriculums);
     }
 
     // ============================================================================
@@ -233,6 +243,17 @@ public class LessonService {
         return curriculum;
     }
 
+    private void indexLesson(Lesson lesson) {
+        searchIndex.index(ClassroomSearchIndex.DocumentType.LESSON, lesson.getClassroomId(), lesson.getLessonId(),
+                lesson.getTitle(), lesson.getDescription(), ClassroomSearchIndex.newestFirst(lesson.getCreatedAt()));
+    }
+
+    private void indexCurriculum(Curriculum curriculum) {
+        searchIndex.index(ClassroomSearchIndex.DocumentType.CURRICULUM, curriculum.getClassroomId(),
+                curriculum.getCurriculumId(), curriculum.getTitle(), curriculum.getDescription(),
+                curriculum.getOrderIndex() != null ? curriculum.getOrderIndex() : 0);
+    }
+
     private void validateCurriculumExists(Long curriculumId, Long classroomId) {
         if (!curriculumRepository.existsByCurriculumIdAndClassroomId(curriculumId, classroomId)) {
             throw new IllegalArgumentException("해당 클래스룸에서 커리큘럼을 찾을 수 없습니다.");
@@ -247,46 +268,13 @@ public class LessonService {
      * 수업 엔티티를 응답 DTO로 변환 (진도 추적 기능 제거됨)
      */
     private LessonResponse convertToLessonResponse(Lesson lesson) {
-        LessonResponse response = LessonResponse.builder()
-                .lessonId(lesson.getLessonId())
-                .curriculumId(lesson.getCurriculumId())
-                .title(lesson.getTitle())
-                .description(lesson.getDescription())
-                .lessonType(lesson.getLessonType())
-                .lessonTypeName(lesson.getLessonType().getDisplayName())
-                .status("활성") // 단순한 상태
-                .createdAt(lesson.getCreatedAt())
-                .updatedAt(lesson.getUpdatedAt())
-                .build();
-
-        // 커리큘럼 정보 추가
-        if (lesson.getCurriculum() != null) {
-            response.setCurriculumTitle(lesson.getCurriculum().getTitle());
-        }
-
-        // 선택적: 기본 통계 정보
-        response.setTotalMaterials(learningMaterialRepository.countByLessonLessonId(lesson.getLessonId()));
-
-        return response;
+        String curriculumTitle = lesson.getCurriculum() != null ? lesson.getCurriculum().getTitle() : null;
+        long totalMaterials = learningMaterialRepository.countByLessonLessonId(lesson.getLessonId());
+        return curriculumTreeAssembler.toLessonResponse(lesson, curriculumTitle, totalMaterials);
     }
 
     private CurriculumResponse convertToCurriculumResponse(Curriculum curriculum) {
-        // 포함된 수업들
-        List<Lesson> lessons = lessonRepository.findByCurriculumIdOrderByCreatedAtAsc(curriculum.getCurriculumId());
-        List<LessonResponse> lessonResponses = lessons.stream()
-                .map(this::convertToLessonResponse)
-                .collect(Collectors.toList());
-
-        return CurriculumResponse.builder()
-                .curriculumId(curriculum.getCurriculumId())
-                .title(curriculum.getTitle())
-                .description(curriculum.getDescription())
-                .orderIndex(curriculum.getOrderIndex())
-                .createdAt(curriculum.getCreatedAt())
-                .updatedAt(curriculum.getUpdatedAt())
-                .lessonCount(lessons.size())
-                .lessons(lessonResponses)
-                .build();
+        return curriculumTreeAssembler.assemble(List.of(curriculum)).get(0);
     }
 
     // StorageStatistics DTO (그대로 유지)
@@ -0,0 +1,124 @@
+package com.eddie.lms.domain.lesson.service;
+
+import com.eddie.lms.domain.classroom.entity.ClassroomMember;
+import com.eddie.lms.domain.classroom.repository.ClassroomMemberRepository;
+import com.eddie.lms.domain.lesson.dto.response.LessonStatisticsResponse;
+import com.eddie.lms.domain.lesson.entity.Lesson;
+import com.eddie.lms.domain.lesson.repository.LearningMaterialRepository;
+import com.eddie.lms.domain.lesson.repository.LessonRepository;
+import com.eddie.lms.domain.progress.entity.LessonProgressStats;
+import com.eddie.lms.domain.progress.repository.LessonProgressStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 클래스룸 수업 통계 서비스
+ * 진도 통계는 수업별 누적 카운터(lesson_progress_stats)만 읽어 계산하므로
+ * learning_progress 크기와 무관하게 수업 수에 비례하는 비용으로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LessonStatisticsService {
+
+    private final LessonRepository lessonRepository;
+    private final LearningMaterialRepository learningMaterialRepository;
+    private final LessonProgressStatsRepository lessonProgressStatsRepository;
+    private final ClassroomMemberRepository classroomMemberRepository;
+
+    @Value("${app.lesson.statistics.ranking-size:5}")
+    private int rankingSize;
+
+    /**
+     * 클래스룸 수업 통계 조회
+     * 학습자별 상태(활동/완료/진행/미시작 학습자 수)는 수업별 카운터로 알 수 없으므로 포함하지 않음
+     */
+    public LessonStatisticsResponse getStatistics(Long classroomId) {
+        log.info("Fetching lesson statistics for classroom: {}", classroomId);
+
+        List<Lesson> lessons = lessonRepository.findByClassroomIdOrderByCreatedAtDesc(classroomId);
+        Map<Long, LessonProgressStats> statsByLesson = new HashMap<>();
+        lessonProgressStatsRepository.findAllById(lessons.stream()
+                        .map(Lesson::getLessonId)
+                        .collect(Collectors.toList()))
+                .forEach(stats -> statsByLesson.put(stats.getLessonId(), stats));
+
+        long totalStudents = classroomMemberRepository.countByClassroomIdAndStatus(
+                classroomId, ClassroomMember.MemberStatus.ACTIVE);
+
+        long videoLessons = 0;
+        long documentLessons = 0;
+        long completedLessons = 0;
+        double totalProgress = 0;
+        List<LessonStatisticsResponse.PopularLessonInfo> lessonInfos = new ArrayList<>(lessons.size());
+        Map<Long, Long> startedCounts = new HashMap<>();
+
+        for (Lesson lesson : lessons) {
+            if (lesson.getLessonType() == Lesson.LessonType.VIDEO) {
+                videoLessons++;
+            } else if (lesson.getLessonType() == Lesson.LessonType.DOCUMENT) {
+                documentLessons++;
+            }
+
+            LessonProgressStats stats = statsByLesson.get(lesson.getLessonId());
+            long started = stats != null ? stats.getStartedCount() : 0;
+            long completed = stats != null ? stats.getCompletedCount() : 0;
+            double progressSum = stats != null ? stats.getProgressSum() : 0;
+
+            // 시작하지 않은 학습자는 진도 0으로 계산 (탈퇴한 학습자 기록이 남아 있을 수 있어 큰 쪽 기준)
+            long learners = Math.max(totalStudents, started);
+            double averageProgress = learners > 0 ? progressSum / learners : 0;
+            if (totalStudents > 0 && completed >= totalStudents) {
+                completedLessons++;
+            }
+            totalProgress += averageProgress;
+            startedCounts.put(lesson.getLessonId(), started);
+
+            lessonInfos.add(LessonStatisticsResponse.PopularLessonInfo.builder()
+                    .lessonId(lesson.getLessonId())
+                    .title(lesson.getTitle())
+                    .averageProgress(round(averageProgress))
+                    .build());
+        }
+
+        List<LessonStatisticsResponse.PopularLessonInfo> popularLessons = lessonInfos.stream()
+                .filter(info -> startedCounts.get(info.getLessonId()) > 0)
+                .sorted(Comparator.comparingLong((LessonStatisticsResponse.PopularLessonInfo info) ->
+                        startedCounts.get(info.getLessonId())).reversed())
+                .limit(rankingSize)
+                .collect(Collectors.toList());
+
+        List<LessonStatisticsResponse.PopularLessonInfo> lowProgressLessons = lessonInfos.stream()
+                .sorted(Comparator.comparingDouble(LessonStatisticsResponse.PopularLessonInfo::getAverageProgress))
+                .limit(rankingSize)
+                .collect(Collectors.toList());
+
+        return LessonStatisticsResponse.builder()
+                .totalLessons((long) lessons.size())
+                .completedLessons(completedLessons)
+                .videoLessons(videoLessons)
+                .documentLessons(documentLessons)
+                .totalMaterials(learningMaterialRepository.countByClassroomId(classroomId))
+                .totalFileSize(learningMaterialRepository.getTotalFileSize(classroomId))
+                .totalStudents(totalStudents)
+                .overallProgress(lessons.isEmpty() ? 0.0 : round(totalProgress / lessons.size()))
+                .popularLessons(popularLessons)
+                .lowProgressLessons(lowProgressLessons)
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.eddie.lms.domain.progress.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 수업별 진도 누적 카운터
+ * 진도 저장 시 증분 UPDATE로 갱신되어 통계 조회 시 learning_progress를 집계하지 않음
+ */
+@Entity
+@Table(name = "lesson_progress_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LessonProgressStats {
+
+    @Id
+    @Column(name = "lesson_id")
+    private Long lessonId;
+
+    // 진도 기록이 있는 학습자 수
+    @Column(name = "started_count", nullable = false)
+    @Builder.Default
+    private Long startedCount = 0L;
+
+    // 완료한 학습자 수
+    @Column(name = "completed_count", nullable = false)
+    @Builder.Default
+    private Long completedCount = 0L;
+
+    // 학습자별 진도율 합계
+    @Column(name = "progress_sum", nullable = false)
+    @Builder.Default
+    private Double progressSum = 0.0;
+}
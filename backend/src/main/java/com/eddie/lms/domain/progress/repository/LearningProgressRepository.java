@@ -1,7 +1,9 @@
 package com.eddie.lms.domain.progress.repository;
 
 import com.eddie.lms.domain.progress.entity.LearningProgress;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,14 @@ public interface LearningProgressRepository extends JpaRepository<LearningProgre
      */
     Optional<LearningProgress> findByLessonIdAndUserId(Long lessonId, Long userId);
 
+    /**
+     * 특정 수업의 특정 사용자 진도율 조회 (갱신용 행 잠금)
+     * 동시 갱신이 이전 값을 같이 읽고 수업 카운터에 변경분을 이중으로 반영하지 않도록 함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lp FROM LearningProgress lp WHERE lp.lessonId = :lessonId AND lp.userId = :userId")
+    Optional<LearningProgress> findForUpdate(@Param("lessonId") Long lessonId, @Param("userId") Long userId);
+
     /**
      * 특정 사용자의 모든 진도율 조회
      */
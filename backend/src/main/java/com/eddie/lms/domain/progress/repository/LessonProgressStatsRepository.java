@@ -0,0 +1,26 @@
+package com.eddie.lms.domain.progress.repository;
+
+import com.eddie.lms.domain.progress.entity.LessonProgressStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LessonProgressStatsRepository extends JpaRepository<LessonProgressStats, Long> {
+
+    /**
+     * 수업 카운터 증분 갱신 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE LessonProgressStats s SET " +
+            "s.startedCount = s.startedCount + :started, " +
+            "s.completedCount = s.completedCount + :completed, " +
+            "s.progressSum = s.progressSum + :progressDelta " +
+            "WHERE s.lessonId = :lessonId")
+    int increment(@Param("lessonId") Long lessonId,
+                  @Param("started") long started,
+                  @Param("completed") long completed,
+                  @Param("progressDelta") double progressDelta);
+}
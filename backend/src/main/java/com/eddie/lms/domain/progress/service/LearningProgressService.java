@@ -18,22 +18,27 @@ import java.time.LocalDateTime;
 public class LearningProgressService {
 
     private final LearningProgressRepository learningProgressRepository;
+    private final LessonProgressCounter lessonProgressCounter;
 
     /**
      * 진도율 업데이트
+     * 기존 행은 잠근 뒤 읽어서 이전 값 기준 변경분을 계산 (첫 저장끼리의 경합은 유니크 제약으로 한쪽만 성공)
      */
     public LearningProgressResponse updateProgress(Long lessonId, Long userId, LearningProgressUpdateRequest request) {
         log.info("Updating progress: lessonId={}, userId={}, percentage={}",
                 lessonId, userId, request.getCompletionPercentage());
 
         LearningProgress progress = learningProgressRepository
-                .findByLessonIdAndUserId(lessonId, userId)
+                .findForUpdate(lessonId, userId)
                 .orElse(LearningProgress.builder()
                         .lessonId(lessonId)
                         .userId(userId)
                         .completionPercentage(0.0)
                         .lastAccessed(LocalDateTime.now())
                         .build());
+        boolean started = progress.getProgressId() == null;
+        boolean wasCompleted = progress.isCompleted();
+        double previousPercentage = progress.getCompletionPercentage();
 
         progress.setCompletionPercentage(request.getCompletionPercentage());
         progress.setLastAccessedTime(request.getLastAccessedTime());
@@ -46,6 +51,8 @@ public class LearningProgressService {
         }
 
         LearningProgress saved = learningProgressRepository.save(progress);
+        lessonProgressCounter.record(lessonId, started, !wasCompleted && saved.isCompleted(),
+                saved.getCompletionPercentage() - previousPercentage);
         return convertToResponse(saved);
     }
 
@@ -73,19 +80,23 @@ public class LearningProgressService {
         log.info("Marking as completed: lessonId={}, userId={}", lessonId, userId);
 
         LearningProgress progress = learningProgressRepository
-                .findByLessonIdAndUserId(lessonId, userId)
+                .findForUpdate(lessonId, userId)
                 .orElse(LearningProgress.builder()
                         .lessonId(lessonId)
                         .userId(userId)
                         .completionPercentage(0.0)
                         .lastAccessed(LocalDateTime.now())
                         .build());
+        boolean started = progress.getProgressId() == null;
+        boolean wasCompleted = progress.isCompleted();
+        double previousPercentage = progress.getCompletionPercentage();
 
         progress.setCompletionPercentage(100.0);
         progress.setCompletedAt(LocalDateTime.now());
         progress.setLastAccessed(LocalDateTime.now());
 
         LearningProgress saved = learningProgressRepository.save(progress);
+        lessonProgressCounter.record(lessonId, started, !wasCompleted, 100.0 - previousPercentage);
         return convertToResponse(saved);
     }
 
@@ -0,0 +1,102 @@
+package com.eddie.lms.domain.progress.service;
+
+import com.eddie.lms.domain.progress.entity.LessonProgressStats;
+import com.eddie.lms.domain.progress.repository.LessonProgressStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수업별 진도 카운터 관리 (시작 학습자 수, 완료 학습자 수, 진도율 합계)
+ * 진도 저장과 같은 트랜잭션에서 증분 UPDATE로 반영하므로 롤백 시 카운터도 함께 롤백
+ * 카운터 행은 수업 생성 트랜잭션에서 만들고, 도입 이전 수업은 기동 시 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LessonProgressCounter {
+
+    private static final String BACKFILL_SQL =
+            "INSERT INTO lesson_progress_stats (lesson_id, started_count, completed_count, progress_sum) " +
+                    "SELECT l.lesson_id, COUNT(lp.progress_id), COUNT(lp.completed_at), COALESCE(SUM(lp.completion_percentage), 0) " +
+                    "FROM lessons l LEFT JOIN learning_progress lp ON lp.lesson_id = l.lesson_id " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM lesson_progress_stats s WHERE s.lesson_id = l.lesson_id) " +
+                    "GROUP BY l.lesson_id";
+    private static final String INITIALIZE_SQL =
+            "INSERT INTO lesson_progress_stats (lesson_id, started_count, completed_count, progress_sum) " +
+                    "SELECT ?, COUNT(progress_id), COUNT(completed_at), COALESCE(SUM(completion_percentage), 0) " +
+                    "FROM learning_progress WHERE lesson_id = ?";
+
+    private final LessonProgressStatsRepository statsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 기동 시 카운터 행이 없는 수업을 기존 진도 기록으로 채움 (도입 이전 데이터 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int inserted = jdbcTemplate.update(BACKFILL_SQL);
+            if (inserted > 0) {
+                log.info("Backfilled progress counters for {} lessons", inserted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to backfill lesson progress counters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 수업의 카운터 행 생성 (수업 생성과 같은 트랜잭션)
+     * 첫 진도 저장이 동시에 들어와도 행이 이미 있으므로 증분 UPDATE만 수행
+     */
+    public void create(Long lessonId) {
+        statsRepository.save(LessonProgressStats.builder().lessonId(lessonId).build());
+    }
+
+    /**
+     * 진도 변경분 반영 (호출 측 트랜잭션 안에서, 진도 저장 이후에 호출)
+     */
+    public void record(Long lessonId, boolean started, boolean completed, double progressDelta) {
+        if (!started && !completed && progressDelta == 0) {
+            return;
+        }
+
+        int updated = statsRepository.increment(lessonId, started ? 1 : 0, completed ? 1 : 0, progressDelta);
+        if (updated == 0) {
+            // 기동 시 채우기에 실패한 수업만 해당 - 행을 만든 뒤 이번 변경분을 다시 증분
+            initialize(lessonId);
+            statsRepository.increment(lessonId, started ? 1 : 0, completed ? 1 : 0, progressDelta);
+        }
+    }
+
+    /**
+     * 수업 삭제 시 카운터 제거
+     */
+    public void remove(Long lessonId) {
+        statsRepository.deleteById(lessonId);
+    }
+
+    /**
+     * 커밋된 진도 기록으로 카운터 행 생성 (별도 트랜잭션)
+     * 동시에 다른 요청이 먼저 만든 경우 그 트랜잭션만 롤백되고 호출 측 트랜잭션은 영향 없음
+     */
+    private void initialize(Long lessonId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            template.executeWithoutResult(status -> jdbcTemplate.update(INITIALIZE_SQL, lessonId, lessonId));
+            log.debug("Initialized progress counter for lesson: {}", lessonId);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Progress counter for lesson: {} was initialized concurrently", lessonId);
+        }
+    }
+}
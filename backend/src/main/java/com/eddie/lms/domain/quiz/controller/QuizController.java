@@ -1,15 +1,27 @@
 package com.eddie.lms.domain.quiz.controller;
 
 import com.eddie.lms.domain.quiz.dto.request.QuizCreateRequest;
+import com.eddie.lms.domain.quiz.dto.request.QuizRegradeRequest;
 import com.eddie.lms.domain.quiz.dto.request.QuizSubmitRequest;
 import com.eddie.lms.domain.quiz.dto.request.QuizUpdateRequest;
 import com.eddie.lms.domain.quiz.dto.response.*;
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.service.QuizResultExportService;
 import com.eddie.lms.domain.quiz.service.QuizService;
+import com.eddie.lms.domain.quiz.service.QuizSubmissionIntakeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -23,6 +35,8 @@ import java.util.List;
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizSubmissionIntakeService submissionIntakeService;
+    private final QuizResultExportService resultExportService;
 
     /**
      * 퀴즈 생성 (교육자만 가능)
@@ -56,10 +70,22 @@ public class QuizController {
     public ResponseEntity<QuizDetailResponse> getQuiz(
             @PathVariable Long classroomId,
             @PathVariable Long quizId,
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            WebRequest webRequest) {
 
         QuizDetailResponse response = quizService.getQuizDetail(classroomId, quizId, userId);
-        return ResponseEntity.ok(response);
+
+        // 문제/사용자별 정보가 바뀌지 않았으면 304
+        if (webRequest.checkNotModified(response.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(response.getEtag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
     }
 
     /**
@@ -89,6 +115,35 @@ public class QuizController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 정답/배점 변경 후 재채점 (교육자만 가능)
+     * 재채점은 비동기로 진행되며 작업 ID로 진행 상황 조회
+     */
+    @PostMapping("/{quizId}/regrade")
+    public ResponseEntity<QuizRegradeJobResponse> regradeQuiz(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestBody QuizRegradeRequest request,
+            @RequestParam Long creatorId) {
+
+        QuizRegradeJobResponse job = quizService.regradeQuiz(classroomId, quizId, request, creatorId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 재채점 진행 상황 조회 (교육자만 가능)
+     */
+    @GetMapping("/{quizId}/regrade/{jobId}")
+    public ResponseEntity<QuizRegradeJobResponse> getRegradeJob(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @PathVariable String jobId,
+            @RequestParam Long requestUserId) {
+
+        QuizRegradeJobResponse job = quizService.getRegradeJob(classroomId, quizId, jobId, requestUserId);
+        return ResponseEntity.ok(job);
+    }
+
     /**
      * 퀴즈 응시 (학습자)
      */
@@ -103,6 +158,35 @@ public class QuizController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 퀴즈 답안 비동기 제출 (학습자만 가능)
+     * 접수 시각 기준으로 검증 후 접수증 반환, 채점 결과는 결과 조회 API로 확인
+     */
+    @PostMapping("/{quizId}/submissions")
+    public ResponseEntity<QuizSubmissionTicketResponse> enqueueSubmission(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestBody QuizSubmitRequest request,
+            @RequestParam Long studentId) {
+
+        QuizSubmissionTicketResponse ticket = submissionIntakeService.accept(classroomId, quizId, request, studentId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+    }
+
+    /**
+     * 비동기 제출 처리 상태 조회
+     */
+    @GetMapping("/{quizId}/submissions/{ticketId}")
+    public ResponseEntity<QuizSubmissionTicketResponse> getSubmissionTicket(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @PathVariable String ticketId,
+            @RequestParam Long studentId) {
+
+        QuizSubmissionTicketResponse ticket = submissionIntakeService.getTicket(quizId, ticketId, studentId);
+        return ResponseEntity.ok(ticket);
+    }
+
     /**
      * 퀴즈 결과 조회 (학습자 본인 결과)
      */
@@ -134,6 +218,80 @@ public class QuizController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 실시간 점수 분포 조회 (교육자용)
+     * 응시 중에는 /topic/quizzes/{quizId}/sessions 구독으로 갱신된 분포를 받을 수 있음
+     */
+    @GetMapping("/{quizId}/results/live")
+    public ResponseEntity<QuizLiveDistributionResponse> getLiveResultDistribution(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestParam Long requestUserId) {
+
+        QuizLiveDistributionResponse response = quizService.getLiveResultDistribution(classroomId, quizId, requestUserId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 답안 유사도 분석 결과 조회 (교육자용) - 같은 오답이 많은 학생 쌍과 감지 이벤트 수
+     */
+    @GetMapping("/{quizId}/collusion")
+    public ResponseEntity<QuizCollusionReportResponse> getCollusionReport(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestParam Long requestUserId) {
+
+        QuizCollusionReportResponse response = quizService.getCollusionReport(classroomId, quizId, requestUserId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 답안 유사도 분석 재실행 (교육자만 가능)
+     */
+    @PostMapping("/{quizId}/collusion/analyze")
+    public ResponseEntity<QuizCollusionReportResponse> requestCollusionAnalysis(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestParam Long requestUserId) {
+
+        QuizCollusionReportResponse response = quizService.requestCollusionAnalysis(classroomId, quizId, requestUserId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 퀴즈 결과 CSV 내보내기 (교육자용)
+     * 학생별 점수와 문항별 답안을 DB 커서를 따라가며 바로 응답에 기록
+     */
+    @GetMapping("/{quizId}/results/export")
+    public ResponseEntity<StreamingResponseBody> exportQuizResults(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestParam Long requestUserId) {
+
+        Quiz quiz = quizService.getQuizForResultExport(classroomId, quizId, requestUserId);
+        StreamingResponseBody body = outputStream -> resultExportService.writeCsv(quiz, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(resultExportService.fileNameOf(quiz), StandardCharsets.UTF_8)
+                        .build().toString())
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    /**
+     * 문항 분석 조회 (교육자용) - 문항별 정답률, 변별도, 보기별 응답 분포
+     */
+    @GetMapping("/{quizId}/item-analysis")
+    public ResponseEntity<QuizItemAnalysisResponse> getItemAnalysis(
+            @PathVariable Long classroomId,
+            @PathVariable Long quizId,
+            @RequestParam Long requestUserId) {
+
+        QuizItemAnalysisResponse response = quizService.getItemAnalysis(classroomId, quizId, requestUserId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 퀴즈 상태 새로고침 (응시 후 상태 업데이트용)
      */
@@ -1,6 +1,9 @@
 package com.eddie.lms.domain.quiz.controller;
 
 import com.eddie.lms.domain.quiz.entity.QuizSession;
+import com.eddie.lms.domain.quiz.dto.request.QuizDraftRequest;
+import com.eddie.lms.domain.quiz.service.QuizDraftService;
+import com.eddie.lms.domain.quiz.service.QuizProctoringService;
 import com.eddie.lms.domain.quiz.service.QuizSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 퀴즈 세션 관리 컨트롤러 - 이탈 방지 기능
@@ -19,6 +23,8 @@ import java.util.Map;
 public class QuizSessionController {
 
     private final QuizSessionService quizSessionService;
+    private final QuizProctoringService proctoringService;
+    private final QuizDraftService draftService;
 
     /**
      * 퀴즈 세션 시작
@@ -107,23 +113,89 @@ public class QuizSessionController {
         }
     }
 
+    /**
+     * 탭 이탈 감지 기록
+     */
+    @PostMapping("/{sessionToken}/tab-switch")
+    public ResponseEntity<Map<String, Object>> recordTabSwitch(@PathVariable String sessionToken) {
+        return recordProctoringEvent(sessionToken, QuizProctoringService.EventType.TAB_SWITCH);
+    }
+
+    /**
+     * 위반 행위 감지 기록 (개발자 도구, 복사붙여넣기 등)
+     */
+    @PostMapping("/{sessionToken}/violation")
+    public ResponseEntity<Map<String, Object>> recordViolation(@PathVariable String sessionToken) {
+        return recordProctoringEvent(sessionToken, QuizProctoringService.EventType.VIOLATION);
+    }
+
+    /**
+     * 경고 기록
+     */
+    @PostMapping("/{sessionToken}/warning")
+    public ResponseEntity<Map<String, Object>> recordWarning(@PathVariable String sessionToken) {
+        return recordProctoringEvent(sessionToken, QuizProctoringService.EventType.WARNING);
+    }
+
+    /**
+     * 답안 임시 저장 (자동 저장, 변경된 답안만 보내도 됨)
+     */
+    @PutMapping("/{sessionToken}/draft")
+    public ResponseEntity<Map<String, Object>> saveDraft(
+            @PathVariable String sessionToken,
+            @RequestBody QuizDraftRequest request) {
+
+        try {
+            Map<Long, String> answers = draftService.saveDraft(sessionToken, request.getAnswers());
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "answerCount", answers.size()
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 임시 저장된 답안 조회
+     */
+    @GetMapping("/{sessionToken}/draft")
+    public ResponseEntity<Map<String, Object>> getDraft(@PathVariable String sessionToken) {
+        if (quizSessionService.findSession(sessionToken).isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "세션을 찾을 수 없습니다: " + sessionToken
+            ));
+        }
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "answers", draftService.getDraft(sessionToken)
+        ));
+    }
+
     /**
      * 세션 상태 확인
      */
     @GetMapping("/{sessionToken}/status")
     public ResponseEntity<Map<String, Object>> getSessionStatus(@PathVariable String sessionToken) {
         try {
-            boolean valid = quizSessionService.isSessionValid(sessionToken);
+            Optional<QuizSession> sessionOpt = quizSessionService.findSession(sessionToken)
+                    .filter(QuizSession::isActive);
 
-            if (valid) {
-                QuizSession session = quizSessionService.getSessionInfo(sessionToken);
+            if (sessionOpt.isPresent()) {
+                QuizSession session = sessionOpt.get();
+                QuizProctoringService.ProctoringCounts counts = proctoringService.getCounts(session);
                 return ResponseEntity.ok(Map.of(
                         "success", true,
                         "valid", true,
                         "status", session.getSessionStatus().name(),
-                        "tabSwitchCount", session.getTabSwitchCount(),
-                        "violationCount", session.getViolationCount(),
-                        "warningCount", session.getWarningCount()
+                        "tabSwitchCount", counts.getTabSwitchCount(),
+                        "violationCount", counts.getViolationCount(),
+                        "warningCount", counts.getWarningCount()
                 ));
             } else {
                 return ResponseEntity.ok(Map.of(
@@ -156,4 +228,24 @@ public class QuizSessionController {
                 "message", canRetake ? "응시 가능합니다." : "이미 응시한 퀴즈입니다."
         ));
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<Map<String, Object>> recordProctoringEvent(String sessionToken,
+                                                                      QuizProctoringService.EventType eventType) {
+        try {
+            QuizProctoringService.ProctoringCounts counts = proctoringService.recordEvent(sessionToken, eventType);
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "terminated", counts.isTerminated(),
+                    "tabSwitchCount", counts.getTabSwitchCount(),
+                    "violationCount", counts.getViolationCount(),
+                    "warningCount", counts.getWarningCount(),
+                    "message", counts.isTerminated() ? "부정행위 기준을 초과하여 퀴즈 세션이 종료되었습니다." : "기록되었습니다."
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+    }
+}
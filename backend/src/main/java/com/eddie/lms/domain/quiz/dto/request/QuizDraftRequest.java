@@ -0,0 +1,13 @@
+package com.eddie.lms.domain.quiz.dto.request;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizDraftRequest {
+    private List<QuizSubmitRequest.AnswerRequest> answers; // 변경된 답안만 보내도 됨 (문제 ID 기준 병합)
+}
@@ -0,0 +1,24 @@
+package com.eddie.lms.domain.quiz.dto.request;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizRegradeRequest {
+    private List<QuestionKeyUpdate> questions;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QuestionKeyUpdate {
+        private Long questionId;
+        private String correctAnswer;  // null이면 기존 정답 유지
+        private Integer points;        // null이면 기존 배점 유지
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 @Builder
 public class QuizSubmitRequest {
     private List<AnswerRequest> answers;
+    private String sessionToken;  // 지정 시 임시 저장된 답안과 병합 (answers가 우선)
 
     @Getter
     @Setter
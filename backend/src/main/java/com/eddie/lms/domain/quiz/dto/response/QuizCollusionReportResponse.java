@@ -0,0 +1,34 @@
+package com.eddie.lms.domain.quiz.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizCollusionReportResponse {
+    private Long quizId;
+    private String status;            // NOT_ANALYZED, RUNNING, ANALYZED
+    private LocalDateTime checkedAt;
+    private List<FlaggedPair> flags;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FlaggedPair {
+        private Long studentAId;
+        private String studentAName;
+        private Long studentBId;
+        private String studentBName;
+        private Integer identicalAnswers;
+        private Integer identicalWrongAnswers;
+        private Double similarity;
+        private Long proctoringEventsA;
+        private Long proctoringEventsB;
+    }
+}
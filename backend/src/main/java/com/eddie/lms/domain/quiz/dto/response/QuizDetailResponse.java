@@ -1,5 +1,8 @@
 package com.eddie.lms.domain.quiz.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,4 +30,20 @@ public class QuizDetailResponse {
     private String status;
     private List<QuestionResponse> questions;  // 교육자만 볼 수 있음
     private Boolean hasSubmitted;  // 학습자가 이미 제출했는지
+
+    @JsonIgnore
+    private RawValue serializedQuestions;  // 미리 직렬화된 학습자용 문제 목록 (있으면 questions 대신 출력)
+
+    @JsonIgnore
+    private String etag;
+
+    @JsonIgnore
+    public List<QuestionResponse> getQuestions() {
+        return questions;
+    }
+
+    @JsonProperty("questions")
+    public Object getQuestionsForJson() {
+        return serializedQuestions != null ? serializedQuestions : questions;
+    }
 }
\ No newline at end of file
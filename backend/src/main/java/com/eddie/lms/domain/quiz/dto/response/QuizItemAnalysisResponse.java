@@ -0,0 +1,47 @@
+package com.eddie.lms.domain.quiz.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizItemAnalysisResponse {
+    private Long quizId;
+    private String quizTitle;
+    private Integer totalParticipants;
+    private Integer groupSize;          // 상위/하위 집단 인원 수 (참여자의 27%)
+    private LocalDateTime generatedAt;
+    private List<ItemStatistics> items;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemStatistics {
+        private Long questionId;
+        private Integer orderIndex;
+        private String questionText;
+        private String questionType;
+        private Integer responseCount;
+        private Integer correctCount;
+        private Double difficulty;       // 정답률 (p-value)
+        private Double discrimination;   // 상위 집단 정답률 - 하위 집단 정답률 (참여자 2명 미만이면 null)
+        private List<OptionCount> optionDistribution; // 객관식만
+        private Integer otherCount;      // 보기에 없는 답안 수 (객관식만)
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class OptionCount {
+        private String option;
+        private Integer count;
+    }
+}
@@ -0,0 +1,30 @@
+package com.eddie.lms.domain.quiz.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실시간 점수 분포 (응시 중 교육자 대시보드용)
+ * 백분위는 1% 구간 히스토그램에서 계산한 근사값 (오차 1%p 이내)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizLiveDistributionResponse {
+    private Long quizId;
+    private Integer participantCount;
+    private Integer maxScore;
+    private Double averageScore;
+    private Double averagePercentage;
+    private List<Integer> scoreDistribution; // 득점률 10% 구간별 인원 수
+    private Double minPercentage;
+    private Double p25Percentage;
+    private Double medianPercentage;
+    private Double p75Percentage;
+    private Double p90Percentage;
+    private Double maxPercentage;
+    private LocalDateTime updatedAt;
+}
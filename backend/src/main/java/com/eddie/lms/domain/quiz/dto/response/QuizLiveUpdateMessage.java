@@ -0,0 +1,36 @@
+package com.eddie.lms.domain.quiz.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실시간 응시 현황 메시지 (/topic/quizzes/{quizId}/sessions)
+ * 직전 메시지 이후 변경된 학생만 포함
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizLiveUpdateMessage {
+    private Long quizId;
+    private List<SessionUpdate> sessions;
+    private List<Long> submittedStudentIds; // 이번 구간에 제출한 학생
+    private Integer submittedCount;          // 누적 제출 인원 (집계가 로드된 경우)
+    private QuizLiveDistributionResponse distribution; // 제출이 있었던 구간의 점수 분포 (집계가 로드된 경우)
+    private LocalDateTime timestamp;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SessionUpdate {
+        private Long studentId;
+        private String status;           // STARTED, IN_PROGRESS, COMPLETED, TERMINATED, EXPIRED (변경 없으면 null)
+        private Long tabSwitchCount;     // 카운트 변경 없으면 null
+        private Long violationCount;
+        private Long warningCount;
+    }
+}
@@ -0,0 +1,23 @@
+package com.eddie.lms.domain.quiz.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizRegradeJobResponse {
+    private String jobId;
+    private Long quizId;
+    private List<Long> questionIds;
+    private String status; // PENDING, RUNNING, COMPLETED, FAILED
+    private Long totalAnswers;
+    private Long processedAnswers;
+    private Long changedAnswers;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+}
@@ -17,6 +17,7 @@ public class QuizResultSummaryResponse {
     private Integer totalParticipants;
     private Double averageScore;
     private Double averagePercentage;
+    private List<Integer> scoreDistribution; // 득점률 10% 구간별 인원 수
     private List<ParticipantResult> participants;
 
     @Getter
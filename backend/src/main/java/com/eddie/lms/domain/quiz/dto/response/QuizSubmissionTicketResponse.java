@@ -0,0 +1,19 @@
+package com.eddie.lms.domain.quiz.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizSubmissionTicketResponse {
+    private String ticketId;
+    private Long quizId;
+    private Long studentId;
+    private String status; // QUEUED, PROCESSING, COMPLETED, FAILED
+    private LocalDateTime receivedAt;
+    private LocalDateTime processedAt;
+    private String message;
+}
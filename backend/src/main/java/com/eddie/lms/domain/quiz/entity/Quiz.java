@@ -45,6 +45,9 @@ public class Quiz {
     @Column(name = "time_limit_minutes", nullable = false)
     private Integer timeLimitMinutes;
 
+    @Column(name = "collusion_checked_at")
+    private LocalDateTime collusionCheckedAt;  // 답안 유사도 분석 완료 시각 (미실행이면 null)
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,45 @@
+package com.eddie.lms.domain.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퀴즈 답안 임시 저장 (세션당 1행, 답안은 문제 ID -> 답안 JSON)
+ */
+@Entity
+@Table(name = "quiz_answer_draft",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"session_token"})
+        },
+        indexes = {
+                @Index(columnList = "quiz_id, student_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAnswerDraft {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "draft_id")
+    private Long draftId;
+
+    @Column(name = "session_token", nullable = false)
+    private String sessionToken;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "answers", nullable = false, columnDefinition = "TEXT")
+    private String answers; // {"questionId": "answer", ...}
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
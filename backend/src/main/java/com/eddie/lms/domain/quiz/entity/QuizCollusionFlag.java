@@ -0,0 +1,54 @@
+package com.eddie.lms.domain.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답안 유사도 분석에서 의심 쌍으로 분류된 학생 쌍 (studentAId < studentBId)
+ */
+@Entity
+@Table(name = "quiz_collusion_flag",
+        indexes = {
+                @Index(columnList = "quiz_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizCollusionFlag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "flag_id")
+    private Long flagId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "student_a_id", nullable = false)
+    private Long studentAId;
+
+    @Column(name = "student_b_id", nullable = false)
+    private Long studentBId;
+
+    @Column(name = "identical_answers", nullable = false)
+    private Integer identicalAnswers;       // 같은 답안을 낸 문항 수
+
+    @Column(name = "identical_wrong_answers", nullable = false)
+    private Integer identicalWrongAnswers;  // 같은 오답을 낸 문항 수
+
+    @Column(name = "similarity", nullable = false)
+    private Double similarity;              // 같은 오답 수 / 두 학생 중 한 명이라도 틀린 문항 수
+
+    @Column(name = "proctoring_events_a", nullable = false)
+    private Long proctoringEventsA;         // 탭 이탈 + 위반 + 경고 횟수
+
+    @Column(name = "proctoring_events_b", nullable = false)
+    private Long proctoringEventsB;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
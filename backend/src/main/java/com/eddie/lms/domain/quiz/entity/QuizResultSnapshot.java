@@ -0,0 +1,39 @@
+package com.eddie.lms.domain.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학생별 퀴즈 결과 스냅샷 (제출 시 계산한 결과 JSON, 재채점 시 삭제)
+ */
+@Entity
+@Table(name = "quiz_result_snapshot",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"quiz_id", "student_id"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizResultSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "result", nullable = false, columnDefinition = "TEXT")
+    private String result; // QuizResultResponse JSON
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -47,6 +47,9 @@ public class QuizSession {
     @Column(name = "end_time")
     private LocalDateTime endTime;
 
+    @Column(name = "deadline_at")
+    private LocalDateTime deadlineAt; // 제출 마감 시각 (시작 + 제한 시간, 퀴즈 종료 시각 중 이른 시각)
+
     @Column(name = "tab_switch_count")
     @Builder.Default
     private Integer tabSwitchCount = 0;
@@ -135,6 +138,27 @@ public class QuizSession {
      * 강제 종료 조건 확인
      */
     public boolean shouldTerminate() {
+        return exceedsLimits(tabSwitchCount, violationCount, warningCount);
+    }
+
+    /**
+     * 제출 마감 시각 계산 - 시작 + 제한 시간과 퀴즈 종료 시각 중 이른 시각
+     */
+    public static LocalDateTime deadlineOf(LocalDateTime startTime, Integer timeLimitMinutes, LocalDateTime quizEndTime) {
+        LocalDateTime deadline = quizEndTime;
+        if (timeLimitMinutes != null && timeLimitMinutes > 0) {
+            LocalDateTime timeLimitDeadline = startTime.plusMinutes(timeLimitMinutes);
+            if (deadline == null || timeLimitDeadline.isBefore(deadline)) {
+                deadline = timeLimitDeadline;
+            }
+        }
+        return deadline;
+    }
+
+    /**
+     * 강제 종료 기준 (탭 이탈 3회, 위반 5회, 경고 3회 이상)
+     */
+    public static boolean exceedsLimits(long tabSwitchCount, long violationCount, long warningCount) {
         return tabSwitchCount >= 3 || violationCount >= 5 || warningCount >= 3;
     }
 }
\ No newline at end of file
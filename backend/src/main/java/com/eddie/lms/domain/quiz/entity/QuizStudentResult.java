@@ -0,0 +1,42 @@
+package com.eddie.lms.domain.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학생별 퀴즈 채점 결과 (결과 집계용 요약 행)
+ */
+@Entity
+@Table(name = "quiz_student_result",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"quiz_id", "student_id"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizStudentResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "result_id")
+    private Long resultId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "score", nullable = false)
+    private Integer score;
+
+    @Column(name = "correct_answers", nullable = false)
+    private Integer correctAnswers;
+
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+}
@@ -0,0 +1,70 @@
+package com.eddie.lms.domain.quiz.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 제출 접수 기록 - 접수증 발급 전에 저장하여 재기동/장애 후에도 접수된 제출을 처리
+ */
+@Entity
+@Table(name = "quiz_submission_intake",
+        indexes = {
+                @Index(columnList = "status, received_at"),
+                @Index(columnList = "quiz_id, student_id"),
+                @Index(columnList = "claim_token")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizSubmissionIntake {
+
+    @Id
+    @Column(name = "ticket_id", length = 36)
+    private String ticketId;
+
+    @Column(name = "classroom_id", nullable = false)
+    private Long classroomId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "answers", nullable = false, columnDefinition = "TEXT")
+    private String answers; // [{"questionId": 1, "answer": "..."}, ...]
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken; // 처리 중인 워커 배치 식별자
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * 접수 상태
+     */
+    public enum Status {
+        QUEUED,         // 처리 대기
+        PROCESSING,     // 처리 중
+        COMPLETED,      // 채점/저장 완료
+        FAILED          // 처리 실패
+    }
+}
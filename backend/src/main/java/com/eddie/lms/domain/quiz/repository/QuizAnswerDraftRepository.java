@@ -0,0 +1,13 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizAnswerDraft;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuizAnswerDraftRepository extends JpaRepository<QuizAnswerDraft, Long> {
+
+    Optional<QuizAnswerDraft> findBySessionToken(String sessionToken);
+}
@@ -0,0 +1,147 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizAnswerRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 퀴즈 답안 일괄 저장 (JDBC 다중 행 INSERT)
+ * IDENTITY 키를 돌려받을 필요가 없으므로 Hibernate를 거치지 않고 한 번의 왕복으로 저장
+ * 재채점용 키셋 페이지 조회, 통계용 스트리밍 조회, 정답 여부 일괄 UPDATE도 제공
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class QuizAnswerRecordJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO quiz_response (quiz_id, student_id, question_id, answer, is_correct, answered_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 6;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final String UPDATE_CORRECTNESS_SQL = "UPDATE quiz_response SET is_correct = ? WHERE response_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 답안 목록 일괄 저장 - answeredAt이 비어 있으면 저장 시각으로 채움
+     */
+    public void insertAll(List<QuizAnswerRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        for (QuizAnswerRecord record : records) {
+            if (record.getAnsweredAt() == null) {
+                record.setAnsweredAt(now);
+            }
+        }
+
+        for (int from = 0; from < records.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<QuizAnswerRecord> chunk = records.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, records.size()));
+            jdbcTemplate.update(buildInsert(chunk.size()), toParameters(chunk));
+        }
+
+        if (log.isDebugEnabled()) {
+            long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+            log.debug("Inserted {} quiz answers in {} us ({} rows/s)",
+                    records.size(), elapsedNanos / 1_000, records.size() * 1_000_000_000L / elapsedNanos);
+        }
+    }
+
+    /**
+     * 지정한 문제들의 답안을 response_id 순으로 한 페이지 조회 (afterResponseId 초과)
+     * 반환 객체에는 responseId, questionId, answer, isCorrect만 채워짐
+     */
+    public List<QuizAnswerRecord> findAnswerPage(Long quizId, Collection<Long> questionIds, long afterResponseId, int limit) {
+        String sql = "SELECT response_id, question_id, answer, is_correct FROM quiz_response " +
+                "WHERE quiz_id = ? AND question_id IN (" + String.join(", ", Collections.nCopies(questionIds.size(), "?")) + ") " +
+                "AND response_id > ? ORDER BY response_id LIMIT ?";
+
+        List<Object> params = new ArrayList<>(questionIds.size() + 3);
+        params.add(quizId);
+        params.addAll(questionIds);
+        params.add(afterResponseId);
+        params.add(limit);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> QuizAnswerRecord.builder()
+                .responseId(rs.getLong("response_id"))
+                .questionId(rs.getLong("question_id"))
+                .answer(rs.getString("answer"))
+                .isCorrect(rs.getBoolean("is_correct"))
+                .build(), params.toArray());
+    }
+
+    /**
+     * 퀴즈의 답안을 학생 순으로 한 행씩 전달 (결과를 메모리에 모으지 않음)
+     * PostgreSQL은 트랜잭션 안에서만 fetchSize 단위 커서 조회가 적용되므로 읽기 전용 트랜잭션에서 호출
+     */
+    public void streamByStudent(Long quizId, RowCallbackHandler handler) {
+        stream("SELECT student_id, question_id, answer, is_correct FROM quiz_response " +
+                "WHERE quiz_id = ? ORDER BY student_id", quizId, handler);
+    }
+
+    /**
+     * 결과 내보내기용 스트리밍 조회 - 학생 이름/이메일 포함, 학생 순
+     */
+    public void streamWithStudentsByStudent(Long quizId, RowCallbackHandler handler) {
+        stream("SELECT r.student_id, u.name, u.email, r.question_id, r.answer, r.is_correct, r.answered_at " +
+                "FROM quiz_response r LEFT JOIN users u ON u.user_id = r.student_id " +
+                "WHERE r.quiz_id = ? ORDER BY r.student_id", quizId, handler);
+    }
+
+    /**
+     * 정답 여부 일괄 갱신
+     */
+    public void updateCorrectness(List<QuizAnswerRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_CORRECTNESS_SQL, records, MAX_ROWS_PER_STATEMENT,
+                (ps, record) -> {
+                    ps.setBoolean(1, record.getIsCorrect());
+                    ps.setLong(2, record.getResponseId());
+                });
+    }
+
+    private void stream(String sql, Long quizId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setLong(1, quizId);
+            return ps;
+        }, handler);
+    }
+
+    private String buildInsert(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+    }
+
+    private Object[] toParameters(List<QuizAnswerRecord> records) {
+        List<Object> params = new ArrayList<>(records.size() * COLUMNS);
+        for (QuizAnswerRecord record : records) {
+            params.add(record.getQuizId());
+            params.add(record.getStudentId());
+            params.add(record.getQuestionId());
+            params.add(record.getAnswer());
+            params.add(record.getIsCorrect());
+            params.add(Timestamp.valueOf(record.getAnsweredAt()));
+        }
+        return params.toArray();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,8 @@ import java.util.Optional;
 public interface QuizAnswerRecordRepository extends JpaRepository<QuizAnswerRecord, Long> {
     List<QuizAnswerRecord> findByQuizIdAndStudentId(Long quizId, Long studentId);
     List<QuizAnswerRecord> findByQuizId(Long quizId);
+
+    long countByQuizIdAndQuestionIdIn(Long quizId, Collection<Long> questionIds);
     boolean existsByQuizIdAndStudentId(Long quizId, Long studentId);
 
     @Query("SELECT SUM(qr.isCorrect) FROM QuizAnswerRecord qr WHERE qr.quizId = :quizId AND qr.studentId = :studentId")
@@ -19,4 +22,20 @@ public interface QuizAnswerRecordRepository extends JpaRepository<QuizAnswerReco
 
     @Query("SELECT COUNT(DISTINCT qr.studentId) FROM QuizAnswerRecord qr WHERE qr.quizId = :quizId")
     int countDistinctStudentsByQuizId(@Param("quizId") Long quizId);
+
+    /**
+     * 퀴즈별 참여 학생 수 집계 (quizId, participantCount)
+     */
+    @Query("SELECT qr.quizId, COUNT(DISTINCT qr.studentId) FROM QuizAnswerRecord qr " +
+            "WHERE qr.quizId IN :quizIds GROUP BY qr.quizId")
+    List<Object[]> countDistinctStudentsByQuizIds(@Param("quizIds") Collection<Long> quizIds);
+
+    /**
+     * 주어진 퀴즈 중 학생이 답안을 제출한 퀴즈 ID
+     */
+    @Query("SELECT DISTINCT qr.quizId FROM QuizAnswerRecord qr WHERE qr.studentId = :studentId AND qr.quizId IN :quizIds")
+    List<Long> findSubmittedQuizIds(@Param("studentId") Long studentId, @Param("quizIds") Collection<Long> quizIds);
+
+    @Query("SELECT DISTINCT qr.studentId FROM QuizAnswerRecord qr WHERE qr.quizId = :quizId")
+    List<Long> findDistinctStudentIdsByQuizId(@Param("quizId") Long quizId);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizCollusionFlag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface QuizCollusionFlagRepository extends JpaRepository<QuizCollusionFlag, Long> {
+    List<QuizCollusionFlag> findByQuizIdOrderByIdenticalWrongAnswersDescSimilarityDesc(Long quizId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM QuizCollusionFlag f WHERE f.quizId = :quizId")
+    void deleteByQuizId(@Param("quizId") Long quizId);
+}
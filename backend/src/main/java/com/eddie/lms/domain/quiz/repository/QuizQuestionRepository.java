@@ -2,11 +2,21 @@ package com.eddie.lms.domain.quiz.repository;
 
 import com.eddie.lms.domain.quiz.entity.QuizQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long> {
     List<QuizQuestion> findByQuizIdOrderByOrderIndex(Long quizId);
     void deleteByQuizId(Long quizId);
+
+    /**
+     * 퀴즈별 문제 수/총점 집계 (quizId, questionCount, totalPoints)
+     */
+    @Query("SELECT q.quizId, COUNT(q), COALESCE(SUM(q.points), 0) FROM QuizQuestion q " +
+            "WHERE q.quizId IN :quizIds GROUP BY q.quizId")
+    List<Object[]> summarizeByQuizIds(@Param("quizIds") Collection<Long> quizIds);
 }
\ No newline at end of file
@@ -2,11 +2,29 @@ package com.eddie.lms.domain.quiz.repository;
 
 import com.eddie.lms.domain.quiz.entity.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
     List<Quiz> findByClassroomIdOrderByCreatedAtDesc(Long classroomId);
     List<Quiz> findByCreatorId(Long creatorId);
+    List<Quiz> findByStartTimeBetween(LocalDateTime from, LocalDateTime to);
+    List<Quiz> findByEndTimeBetweenAndCollusionCheckedAtIsNull(LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Quiz q SET q.collusionCheckedAt = :checkedAt WHERE q.quizId = :quizId")
+    int markCollusionChecked(@Param("quizId") Long quizId, @Param("checkedAt") LocalDateTime checkedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Quiz q SET q.collusionCheckedAt = NULL WHERE q.quizId = :quizId")
+    int clearCollusionChecked(@Param("quizId") Long quizId);
 }
\ No newline at end of file
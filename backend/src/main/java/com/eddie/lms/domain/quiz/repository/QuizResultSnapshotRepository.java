@@ -0,0 +1,22 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizResultSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface QuizResultSnapshotRepository extends JpaRepository<QuizResultSnapshot, Long> {
+
+    Optional<QuizResultSnapshot> findByQuizIdAndStudentId(Long quizId, Long studentId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM QuizResultSnapshot s WHERE s.quizId = :quizId")
+    int deleteByQuizId(@Param("quizId") Long quizId);
+}
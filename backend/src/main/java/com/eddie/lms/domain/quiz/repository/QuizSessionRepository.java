@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,15 +22,31 @@ public interface QuizSessionRepository extends JpaRepository<QuizSession, Long>
 
     boolean existsByQuizIdAndStudentId(Long quizId, Long studentId);
 
+    @Query("SELECT qs.quizId FROM QuizSession qs WHERE qs.studentId = :studentId AND qs.quizId IN :quizIds")
+    List<Long> findQuizIdsWithSession(@Param("studentId") Long studentId, @Param("quizIds") Collection<Long> quizIds);
+
+    @Query("SELECT qs.studentId FROM QuizSession qs WHERE qs.quizId = :quizId")
+    List<Long> findStudentIdsByQuizId(@Param("quizId") Long quizId);
+
+    List<QuizSession> findByQuizId(Long quizId);
+
+    List<QuizSession> findBySessionStatusIn(Collection<QuizSession.SessionStatus> statuses);
+
     List<QuizSession> findByStudentIdAndSessionStatus(Long studentId, QuizSession.SessionStatus status);
 
-    @Query("SELECT qs FROM QuizSession qs WHERE qs.sessionStatus IN ('STARTED', 'IN_PROGRESS') AND qs.startTime < :expiredTime")
-    List<QuizSession> findExpiredSessions(@Param("expiredTime") LocalDateTime expiredTime);
+    /**
+     * 최대 응시 시간을 넘겼거나 퀴즈가 종료된 활성 세션의 토큰 (엔티티 로딩 없이 조회)
+     */
+    @Query("SELECT qs.sessionToken FROM QuizSession qs WHERE qs.sessionStatus IN ('STARTED', 'IN_PROGRESS') " +
+            "AND (qs.startTime < :maxStartTime OR qs.quizId IN (SELECT q.quizId FROM Quiz q WHERE q.endTime < :quizEndedBefore))")
+    List<String> findOverdueSessionTokens(@Param("maxStartTime") LocalDateTime maxStartTime,
+                                          @Param("quizEndedBefore") LocalDateTime quizEndedBefore);
 
     @Modifying
     @Transactional
-    @Query("UPDATE QuizSession qs SET qs.sessionStatus = 'EXPIRED', qs.endTime = :now WHERE qs.sessionId IN :sessionIds")
-    void expireSessions(@Param("sessionIds") List<Long> sessionIds, @Param("now") LocalDateTime now);
+    @Query("UPDATE QuizSession qs SET qs.sessionStatus = 'EXPIRED', qs.endTime = :now, qs.updatedAt = :now " +
+            "WHERE qs.sessionToken IN :sessionTokens AND qs.sessionStatus IN ('STARTED', 'IN_PROGRESS')")
+    int expireActiveSessions(@Param("sessionTokens") Collection<String> sessionTokens, @Param("now") LocalDateTime now);
 
     @Modifying
     @Transactional
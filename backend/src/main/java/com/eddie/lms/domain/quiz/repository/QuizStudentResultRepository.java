@@ -0,0 +1,19 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizStudentResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuizStudentResultRepository extends JpaRepository<QuizStudentResult, Long> {
+    List<QuizStudentResult> findByQuizId(Long quizId);
+
+    @Modifying
+    @Query("DELETE FROM QuizStudentResult r WHERE r.quizId = :quizId")
+    void deleteByQuizId(@Param("quizId") Long quizId);
+}
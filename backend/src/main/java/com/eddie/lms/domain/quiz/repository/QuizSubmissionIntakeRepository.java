@@ -0,0 +1,72 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizSubmissionIntake;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QuizSubmissionIntakeRepository extends JpaRepository<QuizSubmissionIntake, String> {
+
+    Optional<QuizSubmissionIntake> findFirstByQuizIdAndStudentIdAndStatusIn(
+            Long quizId, Long studentId, Collection<QuizSubmissionIntake.Status> statuses);
+
+    List<QuizSubmissionIntake> findByClaimToken(String claimToken);
+
+    /**
+     * 처리 대기 중인 접수 (접수 순)
+     */
+    @Query("SELECT i.ticketId FROM QuizSubmissionIntake i WHERE i.status = 'QUEUED' AND i.receivedAt < :receivedBefore " +
+            "ORDER BY i.receivedAt")
+    List<String> findQueuedTicketIds(@Param("receivedBefore") LocalDateTime receivedBefore, Pageable pageable);
+
+    /**
+     * 대기 중인 접수를 배치 단위로 선점 - 다른 워커/인스턴스가 먼저 선점한 접수는 제외됨
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE QuizSubmissionIntake i SET i.status = 'PROCESSING', i.claimToken = :claimToken, i.claimedAt = :now " +
+            "WHERE i.ticketId IN :ticketIds AND i.status = 'QUEUED'")
+    int claim(@Param("ticketIds") Collection<String> ticketIds, @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 도중 중단된 접수(워커 종료/장애)를 다시 대기 상태로
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE QuizSubmissionIntake i SET i.status = 'QUEUED', i.claimToken = NULL, i.claimedAt = NULL " +
+            "WHERE i.status = 'PROCESSING' AND i.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    /**
+     * 처리 완료 표시 - 답안 저장과 같은 트랜잭션에서 호출
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE QuizSubmissionIntake i SET i.status = 'COMPLETED', i.message = NULL, i.processedAt = :now " +
+            "WHERE i.ticketId IN :ticketIds AND i.claimToken = :claimToken")
+    int markCompleted(@Param("ticketIds") Collection<String> ticketIds, @Param("claimToken") String claimToken,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE QuizSubmissionIntake i SET i.status = 'FAILED', i.message = :message, i.processedAt = :now " +
+            "WHERE i.ticketId = :ticketId AND i.claimToken = :claimToken")
+    int markFailed(@Param("ticketId") String ticketId, @Param("claimToken") String claimToken,
+                   @Param("message") String message, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM QuizSubmissionIntake i WHERE i.status IN ('COMPLETED', 'FAILED') AND i.processedAt < :processedBefore")
+    int deleteProcessedBefore(@Param("processedBefore") LocalDateTime processedBefore);
+}
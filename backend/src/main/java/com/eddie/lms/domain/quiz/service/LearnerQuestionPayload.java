@@ -0,0 +1,26 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * 학습자용 문제 목록의 직렬화 결과 (정답 제외, 스냅샷 버전당 1회 생성)
+ * 응답에는 그대로 이어 붙이고, 내용 해시는 ETag에 사용
+ */
+public final class LearnerQuestionPayload {
+
+    private final RawValue json;
+    private final String contentHash;
+
+    public LearnerQuestionPayload(String json, String contentHash) {
+        this.json = new RawValue(json);
+        this.contentHash = contentHash;
+    }
+
+    public RawValue getJson() {
+        return json;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+}
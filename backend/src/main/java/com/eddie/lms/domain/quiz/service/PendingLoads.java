@@ -0,0 +1,53 @@
+package com.eddie.lms.domain.quiz.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 적재 중인 키별 무효화 횟수
+ * 캐시 미스로 DB에서 적재하는 동안 들어온 무효화를 감지해 이전 상태를 보관하지 않도록 함
+ * 적재 중인 키만 기록하고 마지막 적재가 끝나면 제거하므로 무효화된 키가 쌓이지 않음
+ */
+public final class PendingLoads<K> {
+
+    private final Map<K, Pending> pending = new HashMap<>();
+
+    /**
+     * 적재 시작 (반환값을 finish에 전달)
+     */
+    public synchronized long start(K key) {
+        Pending load = pending.computeIfAbsent(key, k -> new Pending());
+        load.loaders++;
+        return load.invalidations;
+    }
+
+    /**
+     * 적재 종료 - 적재 도중 무효화가 없었으면 true
+     */
+    public synchronized boolean finish(K key, long startedAt) {
+        Pending load = pending.get(key);
+        if (--load.loaders == 0) {
+            pending.remove(key);
+        }
+        return load.invalidations == startedAt;
+    }
+
+    /**
+     * 무효화 기록 (적재 중이 아닌 키는 기록할 필요 없음)
+     */
+    public synchronized void invalidate(K key) {
+        Pending load = pending.get(key);
+        if (load != null) {
+            load.invalidations++;
+        }
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    private static final class Pending {
+        private int loaders;
+        private long invalidations;
+    }
+}
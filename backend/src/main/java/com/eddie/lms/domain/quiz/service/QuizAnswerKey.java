@@ -0,0 +1,169 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizQuestion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 퀴즈 정답표 (채점용으로 미리 컴파일된 불변 객체)
+ * 문제 ID로 색인되며 정답은 채점 규칙에 맞게 미리 정규화되어 있음
+ */
+public final class QuizAnswerKey {
+
+    private final Long quizId;
+    private final List<Entry> entries;
+    private final Map<Long, Entry> entriesById;
+    private final int totalPoints;
+
+    private QuizAnswerKey(Long quizId, List<Entry> entries) {
+        this.quizId = quizId;
+        this.entries = Collections.unmodifiableList(entries);
+
+        Map<Long, Entry> byId = new HashMap<>(entries.size() * 2);
+        int points = 0;
+        for (Entry entry : entries) {
+            byId.put(entry.getQuestionId(), entry);
+            points += entry.getPoints();
+        }
+        this.entriesById = Collections.unmodifiableMap(byId);
+        this.totalPoints = points;
+    }
+
+    /**
+     * 문제 목록(orderIndex 순)으로 정답표 컴파일
+     */
+    public static QuizAnswerKey compile(Long quizId, List<QuizQuestion> questions) {
+        List<Entry> entries = new ArrayList<>(questions.size());
+        for (int ordinal = 0; ordinal < questions.size(); ordinal++) {
+            entries.add(Entry.of(questions.get(ordinal), ordinal));
+        }
+        return new QuizAnswerKey(quizId, entries);
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    /**
+     * 출제 순서대로 정렬된 문항
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public Entry getEntry(Long questionId) {
+        return entriesById.get(questionId);
+    }
+
+    public boolean contains(Long questionId) {
+        return entriesById.containsKey(questionId);
+    }
+
+    public int getQuestionCount() {
+        return entries.size();
+    }
+
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * 정답일 경우 배점, 오답이거나 없는 문제면 0
+     */
+    public int pointsFor(Long questionId, boolean isCorrect) {
+        if (!isCorrect) return 0;
+        Entry entry = entriesById.get(questionId);
+        return entry != null ? entry.getPoints() : 0;
+    }
+
+    /**
+     * 컴파일된 문항 (정규화된 정답, 배점, 유형)
+     */
+    public static final class Entry {
+
+        private final Long questionId;
+        private final int ordinal;
+        private final QuizQuestion.QuestionType questionType;
+        private final String questionText;
+        private final String correctAnswer;
+        private final String normalizedAnswer;
+        private final int points;
+
+        private Entry(Long questionId, int ordinal, QuizQuestion.QuestionType questionType,
+                      String questionText, String correctAnswer, int points) {
+            this.questionId = questionId;
+            this.ordinal = ordinal;
+            this.questionType = questionType;
+            this.questionText = questionText;
+            this.correctAnswer = correctAnswer;
+            this.normalizedAnswer = normalize(questionType, correctAnswer);
+            this.points = points;
+        }
+
+        static Entry of(QuizQuestion question, int ordinal) {
+            return new Entry(
+                    question.getQuestionId(),
+                    ordinal,
+                    question.getQuestionType(),
+                    question.getQuestionText(),
+                    question.getCorrectAnswer(),
+                    question.getPoints() != null ? question.getPoints() : 0
+            );
+        }
+
+        /**
+         * 학생 답안 채점
+         * 객관식: 대소문자 무시 완전 일치 / 서술형: 소문자 정규화 후 일치 또는 상호 포함
+         */
+        public boolean grade(String studentAnswer) {
+            if (studentAnswer == null || normalizedAnswer == null) {
+                return false;
+            }
+
+            if (questionType == QuizQuestion.QuestionType.MULTIPLE_CHOICE) {
+                return normalizedAnswer.equalsIgnoreCase(studentAnswer.trim());
+            }
+
+            String student = studentAnswer.toLowerCase(Locale.ROOT).trim();
+            return normalizedAnswer.equals(student)
+                    || student.contains(normalizedAnswer)
+                    || normalizedAnswer.contains(student);
+        }
+
+        private static String normalize(QuizQuestion.QuestionType type, String answer) {
+            if (answer == null) return null;
+            return type == QuizQuestion.QuestionType.MULTIPLE_CHOICE
+                    ? answer.trim()
+                    : answer.toLowerCase(Locale.ROOT).trim();
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        public QuizQuestion.QuestionType getQuestionType() {
+            return questionType;
+        }
+
+        public String getQuestionText() {
+            return questionText;
+        }
+
+        public String getCorrectAnswer() {
+            return correctAnswer;
+        }
+
+        public int getPoints() {
+            return points;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizCollusionFlag;
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
+import com.eddie.lms.domain.quiz.repository.QuizCollusionFlagRepository;
+import com.eddie.lms.domain.quiz.repository.QuizRepository;
+import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 답안 패턴 유사도 분석기
+ * 학생별 답안을 문항 순번별 정수 코드(같은 답안 = 같은 코드)와 오답 비트맵으로 부호화한 뒤,
+ * 오답 코드 구간(band) 해시가 같은 학생끼리만 후보 쌍으로 묶어 비교 (전체 쌍 비교 없음)
+ * 후보 쌍은 같은 오답 수와 오답 합집합(popcount)으로 유사도를 계산해 기준 이상이면 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizCollusionDetector {
+
+    private final QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
+    private final QuizCollusionFlagRepository flagRepository;
+    private final QuizSessionRepository quizSessionRepository;
+    private final QuizRepository quizRepository;
+    private final QuizQuestionCache questionCache;
+
+    @Value("${app.quiz.collusion.band-size:2}")
+    private int bandSize;
+
+    @Value("${app.quiz.collusion.max-bucket-size:100}")
+    private int maxBucketSize;
+
+    @Value("${app.quiz.collusion.min-identical-wrong:3}")
+    private int minIdenticalWrong;
+
+    @Value("${app.quiz.collusion.min-similarity:0.6}")
+    private double minSimilarity;
+
+    /**
+     * 퀴즈 답안 분석 후 의심 쌍 저장 (이전 분석 결과는 교체), 저장한 쌍 수 반환
+     */
+    @Transactional
+    public int detect(Long quizId) {
+        long startedNanos = System.nanoTime();
+        QuizAnswerKey answerKey = questionCache.getAnswerKey(quizId);
+
+        AnswerMatrix matrix = new AnswerMatrix(answerKey);
+        answerRecordJdbcRepository.streamByStudent(quizId, matrix);
+
+        Set<Long> candidates = findCandidatePairs(matrix);
+        Map<Long, Long> proctoringEvents = loadProctoringEvents(quizId);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<QuizCollusionFlag> flags = new ArrayList<>();
+        for (long pair : candidates) {
+            int a = (int) (pair >>> 32);
+            int b = (int) pair;
+            QuizCollusionFlag flag = compare(matrix, a, b);
+            if (flag != null) {
+                flag.setQuizId(quizId);
+                flag.setProctoringEventsA(proctoringEvents.getOrDefault(flag.getStudentAId(), 0L));
+                flag.setProctoringEventsB(proctoringEvents.getOrDefault(flag.getStudentBId(), 0L));
+                flag.setCreatedAt(now);
+                flags.add(flag);
+            }
+        }
+
+        flagRepository.deleteByQuizId(quizId);
+        flagRepository.saveAll(flags);
+        quizRepository.markCollusionChecked(quizId, now);
+
+        log.info("Collusion analysis for quiz: {} - {} students, {} candidate pairs, {} flagged in {} ms",
+                quizId, matrix.students, candidates.size(), flags.size(), (System.nanoTime() - startedNanos) / 1_000_000);
+        return flags.size();
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 오답이 하나 이상 있는 구간마다 (구간 번호, 구간 내 오답 코드) 해시로 학생을 묶고,
+     * 같은 묶음의 학생끼리만 후보 쌍으로 선택 (흔한 오답으로 지나치게 큰 묶음은 제외)
+     */
+    private Set<Long> findCandidatePairs(AnswerMatrix matrix) {
+        int questionCount = matrix.questionCount;
+        int bands = (questionCount + bandSize - 1) / bandSize;
+        Set<Long> candidates = new HashSet<>();
+
+        for (int band = 0; band < bands; band++) {
+            int from = band * bandSize;
+            int to = Math.min(questionCount, from + bandSize);
+            Map<Long, List<Integer>> buckets = new HashMap<>();
+
+            for (int slot = 0; slot < matrix.students; slot++) {
+                long hash = band * 0x9E3779B97F4A7C15L;
+                boolean hasWrong = false;
+                for (int ordinal = from; ordinal < to; ordinal++) {
+                    boolean wrong = matrix.isWrong(slot, ordinal);
+                    hasWrong |= wrong;
+                    hash = hash * 31 + (wrong ? matrix.codeOf(slot, ordinal) : 0);
+                }
+                if (hasWrong) {
+                    buckets.computeIfAbsent(hash, key -> new ArrayList<>(2)).add(slot);
+                }
+            }
+
+            for (List<Integer> members : buckets.values()) {
+                if (members.size() < 2 || members.size() > maxBucketSize) {
+                    continue;
+                }
+                for (int i = 0; i < members.size(); i++) {
+                    for (int j = i + 1; j < members.size(); j++) {
+                        candidates.add(((long) members.get(i) << 32) | members.get(j));
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 두 학생 비교 - 기준 미달이면 null
+     */
+    private QuizCollusionFlag compare(AnswerMatrix matrix, int a, int b) {
+        int identical = 0;
+        int identicalWrong = 0;
+        for (int ordinal = 0; ordinal < matrix.questionCount; ordinal++) {
+            int code = matrix.codeOf(a, ordinal);
+            if (code != 0 && code == matrix.codeOf(b, ordinal)) {
+                identical++;
+                if (matrix.isWrong(a, ordinal)) {
+                    identicalWrong++;
+                }
+            }
+        }
+        if (identicalWrong < minIdenticalWrong) {
+            return null;
+        }
+
+        int wrongUnion = matrix.wrongUnion(a, b);
+        double similarity = wrongUnion > 0 ? (double) identicalWrong / wrongUnion : 0;
+        if (similarity < minSimilarity) {
+            return null;
+        }
+
+        long studentA = matrix.studentIds[a];
+        long studentB = matrix.studentIds[b];
+        return QuizCollusionFlag.builder()
+                .studentAId(Math.min(studentA, studentB))
+                .studentBId(Math.max(studentA, studentB))
+                .identicalAnswers(identical)
+                .identicalWrongAnswers(identicalWrong)
+                .similarity(Math.round(similarity * 1000) / 1000.0)
+                .build();
+    }
+
+    private Map<Long, Long> loadProctoringEvents(Long quizId) {
+        Map<Long, Long> events = new HashMap<>();
+        for (QuizSession session : quizSessionRepository.findByQuizId(quizId)) {
+            events.put(session.getStudentId(), countOf(session.getTabSwitchCount())
+                    + countOf(session.getViolationCount()) + countOf(session.getWarningCount()));
+        }
+        return events;
+    }
+
+    private static long countOf(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 학생별 답안 부호화 결과
+     * codes: 학생당 questionCount개 (0 = 미응답, 문항별로 같은 정규화 답안이면 같은 코드)
+     * wrongMasks: 학생당 words개 long (오답 문항 비트)
+     */
+    private static final class AnswerMatrix implements RowCallbackHandler {
+
+        private final QuizAnswerKey answerKey;
+        private final int questionCount;
+        private final int words;
+        private final List<Map<String, Integer>> dictionaries;
+
+        private long[] studentIds = new long[64];
+        private int[] codes;
+        private long[] wrongMasks;
+        private int students;
+
+        private AnswerMatrix(QuizAnswerKey answerKey) {
+            this.answerKey = answerKey;
+            this.questionCount = answerKey.getQuestionCount();
+            this.words = Math.max(1, (questionCount + 63) >>> 6);
+            this.dictionaries = new ArrayList<>(questionCount);
+            for (int i = 0; i < questionCount; i++) {
+                dictionaries.add(new HashMap<>());
+            }
+            this.codes = new int[64 * questionCount];
+            this.wrongMasks = new long[64 * words];
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long studentId = rs.getLong(1);
+            if (students == 0 || studentIds[students - 1] != studentId) {
+                addStudent(studentId);
+            }
+
+            QuizAnswerKey.Entry entry = answerKey.getEntry(rs.getLong(2));
+            String answer = rs.getString(3);
+            if (entry == null || answer == null || answer.isBlank()) {
+                return;
+            }
+
+            int ordinal = entry.getOrdinal();
+            int slot = students - 1;
+            Map<String, Integer> dictionary = dictionaries.get(ordinal);
+            String normalized = answer.trim().toLowerCase(Locale.ROOT);
+            Integer code = dictionary.get(normalized);
+            if (code == null) {
+                code = dictionary.size() + 1;
+                dictionary.put(normalized, code);
+            }
+            codes[slot * questionCount + ordinal] = code;
+            if (!rs.getBoolean(4)) {
+                wrongMasks[slot * words + (ordinal >>> 6)] |= 1L << ordinal;
+            }
+        }
+
+        private void addStudent(long studentId) {
+            if (students == studentIds.length) {
+                int capacity = students * 2;
+                studentIds = Arrays.copyOf(studentIds, capacity);
+                codes = Arrays.copyOf(codes, capacity * questionCount);
+                wrongMasks = Arrays.copyOf(wrongMasks, capacity * words);
+            }
+            studentIds[students++] = studentId;
+        }
+
+        private int codeOf(int slot, int ordinal) {
+            return codes[slot * questionCount + ordinal];
+        }
+
+        private boolean isWrong(int slot, int ordinal) {
+            return (wrongMasks[slot * words + (ordinal >>> 6)] & (1L << ordinal)) != 0;
+        }
+
+        private int wrongUnion(int a, int b) {
+            int union = 0;
+            for (int w = 0; w < words; w++) {
+                union += Long.bitCount(wrongMasks[a * words + w] | wrongMasks[b * words + w]);
+            }
+            return union;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizCollusionReportResponse;
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.entity.QuizCollusionFlag;
+import com.eddie.lms.domain.quiz.repository.QuizCollusionFlagRepository;
+import com.eddie.lms.domain.quiz.repository.QuizRepository;
+import com.eddie.lms.domain.user.entity.User;
+import com.eddie.lms.domain.user.service.UserLookupCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 답안 유사도 분석 작업 관리
+ * 종료 후 유예 시간이 지난 퀴즈를 주기적으로 찾아 분석하고, 교육자 요청 시 다시 분석
+ * 분석은 별도 스레드에서 퀴즈 하나씩 실행되어 요청 처리 경로에 영향 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizCollusionService {
+
+    private final QuizCollusionDetector detector;
+    private final QuizCollusionFlagRepository flagRepository;
+    private final QuizRepository quizRepository;
+    private final UserLookupCache userLookupCache;
+
+    @Value("${app.quiz.collusion.delay-minutes:10}")
+    private long delayMinutes;
+
+    @Value("${app.quiz.collusion.lookback-days:7}")
+    private long lookbackDays;
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Set<Long> rerun = ConcurrentHashMap.newKeySet(); // 실행 중 정답이 바뀌어 끝난 뒤 다시 분석할 퀴즈
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quiz-collusion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 종료 후 분석되지 않은 퀴즈 분석 예약 (5분마다)
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.collusion.scan-interval-ms:300000}")
+    public void scheduleEndedQuizzes() {
+        LocalDateTime endedBefore = LocalDateTime.now().minusMinutes(delayMinutes);
+        List<Quiz> quizzes = quizRepository.findByEndTimeBetweenAndCollusionCheckedAtIsNull(
+                endedBefore.minusDays(lookbackDays), endedBefore);
+        quizzes.forEach(quiz -> enqueue(quiz.getQuizId()));
+    }
+
+    /**
+     * 분석 요청 (이미 대기/실행 중이면 무시), 새로 예약되었으면 true
+     */
+    public boolean enqueue(Long quizId) {
+        if (!queued.add(quizId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> run(quizId));
+            return true;
+        } catch (RuntimeException e) {
+            queued.remove(quizId);
+            throw e;
+        }
+    }
+
+    /**
+     * 분석 결과 조회
+     */
+    public QuizCollusionReportResponse getReport(Quiz quiz) {
+        List<QuizCollusionFlag> flags = flagRepository.findByQuizIdOrderByIdenticalWrongAnswersDescSimilarityDesc(quiz.getQuizId());
+
+        List<Long> studentIds = flags.stream()
+                .flatMap(flag -> Stream.of(flag.getStudentAId(), flag.getStudentBId()))
+                .collect(Collectors.toList());
+        userLookupCache.warm(studentIds);
+
+        List<QuizCollusionReportResponse.FlaggedPair> pairs = new ArrayList<>(flags.size());
+        for (QuizCollusionFlag flag : flags) {
+            pairs.add(QuizCollusionReportResponse.FlaggedPair.builder()
+                    .studentAId(flag.getStudentAId())
+                    .studentAName(nameOf(flag.getStudentAId()))
+                    .studentBId(flag.getStudentBId())
+                    .studentBName(nameOf(flag.getStudentBId()))
+                    .identicalAnswers(flag.getIdenticalAnswers())
+                    .identicalWrongAnswers(flag.getIdenticalWrongAnswers())
+                    .similarity(flag.getSimilarity())
+                    .proctoringEventsA(flag.getProctoringEventsA())
+                    .proctoringEventsB(flag.getProctoringEventsB())
+                    .build());
+        }
+
+        String status = queued.contains(quiz.getQuizId()) ? "RUNNING"
+                : quiz.getCollusionCheckedAt() != null ? "ANALYZED" : "NOT_ANALYZED";
+        return QuizCollusionReportResponse.builder()
+                .quizId(quiz.getQuizId())
+                .status(status)
+                .checkedAt(quiz.getCollusionCheckedAt())
+                .flags(pairs)
+                .build();
+    }
+
+    /**
+     * 재채점 후 이전 정답 기준 분석 결과 폐기
+     * 종료된 퀴즈는 바로 다시 분석하고, 진행 중인 퀴즈는 종료 후 주기 스캔에서 분석
+     */
+    public void answerKeyChanged(Long quizId) {
+        flagRepository.deleteByQuizId(quizId);
+        quizRepository.clearCollusionChecked(quizId);
+
+        if (quizRepository.findById(quizId).filter(Quiz::isEnded).isPresent()) {
+            // 이미 실행 중인 분석은 이전 정답으로 읽었을 수 있으므로 끝난 뒤 한 번 더 실행
+            rerun.add(quizId);
+            if (enqueue(quizId)) {
+                rerun.remove(quizId);
+            }
+        }
+    }
+
+    /**
+     * 퀴즈 삭제 시 분석 결과 제거
+     */
+    public void remove(Long quizId) {
+        flagRepository.deleteByQuizId(quizId);
+    }
+
+    // === Private Helper Methods ===
+
+    private void run(Long quizId) {
+        try {
+            detector.detect(quizId);
+        } catch (Exception e) {
+            log.error("Collusion analysis failed for quiz: {}", quizId, e);
+        } finally {
+            queued.remove(quizId);
+            if (rerun.remove(quizId)) {
+                enqueue(quizId);
+            }
+        }
+    }
+
+    private String nameOf(Long userId) {
+        return userLookupCache.find(userId).map(User::getName).orElse(null);
+    }
+}
@@ -0,0 +1,300 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.request.QuizSubmitRequest;
+import com.eddie.lms.domain.quiz.entity.QuizAnswerDraft;
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerDraftRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈 답안 임시 저장 서비스
+ * 자동 저장 요청은 세션 토큰별 메모리 초안에 병합만 하고, 변경된 초안은 주기적으로 일괄 저장
+ * 최종 제출 시 초안을 답안 기록으로 옮기므로 클라이언트가 전체 답안을 다시 보낼 필요 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizDraftService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE quiz_answer_draft SET answers = ?, updated_at = ? WHERE session_token = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO quiz_answer_draft (session_token, quiz_id, student_id, answers, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM quiz_answer_draft WHERE quiz_id = ? AND student_id = ?";
+    private static final TypeReference<Map<Long, String>> ANSWERS_TYPE = new TypeReference<>() {};
+
+    private final QuizSessionRegistry sessionRegistry;
+    private final QuizAnswerDraftRepository draftRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final QuizParticipationIndex participationIndex;
+
+    private final Map<String, Draft> drafts = new ConcurrentHashMap<>();
+
+    /**
+     * 답안 임시 저장 - 문제 ID 기준으로 기존 초안에 병합 (진행 중인 세션만, 빈 답안은 초안에서 제거)
+     */
+    public Map<Long, String> saveDraft(String sessionToken, List<QuizSubmitRequest.AnswerRequest> answers) {
+        QuizSession session = sessionRegistry.find(sessionToken)
+                .filter(QuizSession::isActive)
+                .orElseThrow(() -> new IllegalStateException("유효하지 않은 세션입니다: " + sessionToken));
+        // 제출 후 늦게 도착한 자동 저장이 삭제된 초안을 다시 만들지 않도록
+        if (participationIndex.hasSubmitted(session.getQuizId(), session.getStudentId())) {
+            throw new IllegalStateException("이미 제출한 퀴즈입니다.");
+        }
+
+        Draft draft = drafts.get(sessionToken);
+        if (draft == null) {
+            Draft loaded = loadDraft(session);
+            draft = drafts.putIfAbsent(sessionToken, loaded);
+            draft = draft != null ? draft : loaded;
+        }
+
+        if (answers != null) {
+            draft.merge(answers);
+        }
+        return draft.answers();
+    }
+
+    /**
+     * 임시 저장된 답안 조회 (저장 전 변경분 포함)
+     */
+    public Map<Long, String> getDraft(String sessionToken) {
+        Draft draft = drafts.get(sessionToken);
+        if (draft != null) {
+            return draft.answers();
+        }
+        return draftRepository.findBySessionToken(sessionToken)
+                .map(row -> readAnswers(row.getAnswers()))
+                .orElseGet(HashMap::new);
+    }
+
+    /**
+     * 제출 답안과 임시 저장 답안 병합 - 같은 문제는 제출 답안이 우선
+     */
+    public List<QuizSubmitRequest.AnswerRequest> mergeWithDraft(String sessionToken, Long quizId, Long studentId,
+                                                                List<QuizSubmitRequest.AnswerRequest> answers) {
+        List<QuizSubmitRequest.AnswerRequest> merged = answers != null ? new ArrayList<>(answers) : new ArrayList<>();
+        if (sessionToken == null) {
+            return merged;
+        }
+
+        QuizSession session = sessionRegistry.find(sessionToken)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "세션을 찾을 수 없습니다."));
+        if (!session.getQuizId().equals(quizId) || !session.getStudentId().equals(studentId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "세션이 해당 퀴즈/학생과 일치하지 않습니다.");
+        }
+
+        // 처리 시 같은 문제의 첫 답안만 채점되므로 제출 답안 뒤에 초안을 붙임
+        getDraft(sessionToken).forEach((questionId, answer) -> {
+            if (!isBlank(answer)) {
+                merged.add(new QuizSubmitRequest.AnswerRequest(questionId, answer));
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * 제출 완료된 학생의 초안 삭제
+     * 저장된 초안은 제출 트랜잭션 안에서 삭제하고, 메모리 초안은 커밋 후에 제거 (롤백 시 초안 유지)
+     * 제출 완료 표시도 커밋 후에 반영되므로 그 사이 일괄 저장이 다시 넣은 초안은 커밋 후 한 번 더 삭제
+     */
+    public void discard(Long quizId, Long studentId) {
+        jdbcTemplate.update(DELETE_SQL, quizId, studentId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discardInMemory(quizId, studentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                discardAfterCommit(quizId, studentId);
+            }
+        });
+    }
+
+    /**
+     * 변경된 초안 일괄 저장 (5초마다)
+     * 저장이 끝난 비활성 세션의 초안은 메모리에서 제거
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.draft.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Draft> updated = new ArrayList<>();
+        List<Draft> inserted = new ArrayList<>();
+        List<Object[]> updateArgs = new ArrayList<>();
+        List<Object[]> insertArgs = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (Draft draft : drafts.values()) {
+            String json = draft.takeDirtyJson();
+            if (json == null) {
+                removeIfInactive(draft);
+                continue;
+            }
+            if (draft.persisted) {
+                updated.add(draft);
+                updateArgs.add(new Object[]{json, now, draft.sessionToken});
+            } else if (participationIndex.hasSubmitted(draft.quizId, draft.studentId)) {
+                // 제출과 초안 삭제 이후 병합된 초안은 새로 저장하지 않음
+                drafts.remove(draft.sessionToken, draft);
+            } else {
+                inserted.add(draft);
+                insertArgs.add(new Object[]{draft.sessionToken, draft.quizId, draft.studentId, json, now});
+            }
+        }
+
+        persist(UPDATE_SQL, updateArgs, updated);
+        persist(INSERT_SQL, insertArgs, inserted);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // === Private Helper Methods ===
+
+    private void persist(String sql, List<Object[]> batchArgs, List<Draft> batch) {
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+            batch.forEach(draft -> draft.persisted = true);
+            log.debug("Persisted {} quiz answer drafts", batch.size());
+        } catch (RuntimeException e) {
+            batch.forEach(Draft::markDirty);
+            log.error("Failed to persist {} quiz answer drafts, will retry", batch.size(), e);
+        }
+    }
+
+    private synchronized void discardInMemory(Long quizId, Long studentId) {
+        drafts.values().removeIf(draft -> draft.quizId.equals(quizId) && draft.studentId.equals(studentId));
+    }
+
+    /**
+     * 일괄 저장과 겹치지 않도록 메모리 초안 제거와 저장된 초안 삭제를 같은 락에서 수행
+     */
+    private synchronized void discardAfterCommit(Long quizId, Long studentId) {
+        discardInMemory(quizId, studentId);
+        try {
+            jdbcTemplate.update(DELETE_SQL, quizId, studentId);
+        } catch (RuntimeException e) {
+            log.error("Failed to delete quiz answer draft after submit: quiz={}, student={}", quizId, studentId, e);
+        }
+    }
+
+    private void removeIfInactive(Draft draft) {
+        boolean active = sessionRegistry.find(draft.sessionToken)
+                .map(QuizSession::isActive)
+                .orElse(false);
+        if (!active && !draft.isDirty()) {
+            drafts.remove(draft.sessionToken, draft);
+        }
+    }
+
+    private Draft loadDraft(QuizSession session) {
+        Draft draft = new Draft(session.getSessionToken(), session.getQuizId(), session.getStudentId());
+        draftRepository.findBySessionToken(session.getSessionToken()).ifPresent(row -> {
+            draft.answers.putAll(readAnswers(row.getAnswers()));
+            draft.persisted = true;
+        });
+        return draft;
+    }
+
+    private static boolean isBlank(String answer) {
+        return answer == null || answer.isBlank();
+    }
+
+    private Map<Long, String> readAnswers(String json) {
+        try {
+            return objectMapper.readValue(json, ANSWERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("임시 저장 답안을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 세션별 초안 (answers/dirty는 인스턴스 락으로 보호)
+     */
+    private final class Draft {
+        private final String sessionToken;
+        private final Long quizId;
+        private final Long studentId;
+        private final Map<Long, String> answers = new LinkedHashMap<>();
+        private boolean dirty;
+        private volatile boolean persisted;
+
+        private Draft(String sessionToken, Long quizId, Long studentId) {
+            this.sessionToken = sessionToken;
+            this.quizId = quizId;
+            this.studentId = studentId;
+        }
+
+        private synchronized void merge(List<QuizSubmitRequest.AnswerRequest> updates) {
+            for (QuizSubmitRequest.AnswerRequest update : updates) {
+                if (update.getQuestionId() == null) {
+                    continue;
+                }
+                if (isBlank(update.getAnswer())) {
+                    answers.remove(update.getQuestionId()); // 지운 답안은 미응답으로 처리
+                } else {
+                    answers.put(update.getQuestionId(), update.getAnswer());
+                }
+            }
+            dirty = true;
+        }
+
+        private synchronized Map<Long, String> answers() {
+            return new LinkedHashMap<>(answers);
+        }
+
+        private synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        private synchronized void markDirty() {
+            dirty = true;
+        }
+
+        /**
+         * 변경분이 있으면 JSON으로 직렬화하고 dirty 해제, 없으면 null
+         */
+        private synchronized String takeDirtyJson() {
+            if (!dirty) {
+                return null;
+            }
+            try {
+                String json = objectMapper.writeValueAsString(answers);
+                dirty = false;
+                return json;
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize quiz answer draft: {}", sessionToken, e);
+                return null;
+            }
+        }
+    }
+}
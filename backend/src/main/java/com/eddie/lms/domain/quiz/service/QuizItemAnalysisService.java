@@ -0,0 +1,302 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizItemAnalysisResponse;
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.entity.QuizQuestion;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 문항 분석 서비스 (난이도, 변별도, 보기별 응답 분포)
+ * 답안 행을 학생 순으로 한 번만 스트리밍하며 문항 순번으로 색인된 기본형 배열에 누적
+ * 종료된 퀴즈의 결과는 캐시(LRU, 크기 제한)하고, 제출/재채점/삭제 시 폐기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizItemAnalysisService {
+
+    private static final double GROUP_RATIO = 0.27;
+    private static final TypeReference<List<String>> OPTIONS_TYPE = new TypeReference<>() {};
+
+    private final QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
+    private final QuizQuestionCache questionCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.quiz.item-analysis-cache.max-size:200}")
+    private int maxSize;
+
+    private final LinkedHashMap<Long, CachedAnalysis> analyses = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedAnalysis> eldest) {
+            return size() > maxSize;
+        }
+    };
+    private final PendingLoads<Long> pendingLoads = new PendingLoads<>();
+
+    /**
+     * 문항 분석 (종료된 퀴즈는 캐시된 결과 재사용)
+     */
+    @Transactional(readOnly = true)
+    public QuizItemAnalysisResponse analyze(Quiz quiz) {
+        Long quizId = quiz.getQuizId();
+        QuizQuestionSnapshot snapshot = questionCache.get(quizId);
+
+        long invalidatedAt;
+        synchronized (this) {
+            CachedAnalysis cached = analyses.get(quizId);
+            if (cached != null && cached.questionVersion == snapshot.getVersion()) {
+                return cached.response;
+            }
+            invalidatedAt = pendingLoads.start(quizId);
+        }
+
+        boolean ended = quiz.getEndTime() != null && LocalDateTime.now().isAfter(quiz.getEndTime());
+        QuizItemAnalysisResponse response = null;
+        try {
+            long startedNanos = System.nanoTime();
+            ItemAccumulator accumulator = new ItemAccumulator(snapshot);
+            answerRecordJdbcRepository.streamByStudent(quizId, accumulator);
+            response = accumulator.toResponse(quiz);
+            log.debug("Analyzed quiz: {} ({} participants) in {} ms", quizId, response.getTotalParticipants(),
+                    (System.nanoTime() - startedNanos) / 1_000_000);
+        } finally {
+            synchronized (this) {
+                // 분석 도중 답안이 바뀌었다면 캐시하지 않음
+                if (pendingLoads.finish(quizId, invalidatedAt) && ended && response != null) {
+                    analyses.put(quizId, new CachedAnalysis(snapshot.getVersion(), response));
+                }
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 답안 변경 시 분석 결과 폐기 (트랜잭션 중이면 커밋 이후에도 한 번 더 폐기)
+     */
+    public void invalidate(Long quizId) {
+        evict(quizId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(quizId);
+                }
+            });
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private synchronized void evict(Long quizId) {
+        pendingLoads.invalidate(quizId);
+        analyses.remove(quizId);
+    }
+
+    private String[] parseOptions(QuizQuestion question) {
+        if (question.getQuestionType() != QuizQuestion.QuestionType.MULTIPLE_CHOICE || question.getOptions() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(question.getOptions(), OPTIONS_TYPE).toArray(new String[0]);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable options for question: {}", question.getQuestionId());
+            return null;
+        }
+    }
+
+    private static Double ratio(int count, int total) {
+        return total > 0 ? Math.round(count * 1000.0 / total) / 1000.0 : null;
+    }
+
+    private static final class CachedAnalysis {
+        private final long questionVersion;
+        private final QuizItemAnalysisResponse response;
+
+        private CachedAnalysis(long questionVersion, QuizItemAnalysisResponse response) {
+            this.questionVersion = questionVersion;
+            this.response = response;
+        }
+    }
+
+    /**
+     * 한 번의 스트리밍으로 문항별 통계와 학생별 정답 비트맵/점수를 누적
+     * 행은 student_id 순으로 들어오므로 학생이 바뀔 때마다 새 슬롯을 사용
+     */
+    private final class ItemAccumulator implements RowCallbackHandler {
+
+        private final QuizQuestionSnapshot snapshot;
+        private final QuizAnswerKey answerKey;
+        private final int questionCount;
+        private final int words;
+
+        private final int[] responseCounts;
+        private final int[] correctCounts;
+        private final String[][] options;
+        private final int[][] optionCounts;
+        private final int[] otherCounts;
+
+        private long[] correctMasks;  // 학생별 words개 long (문항 순번 비트)
+        private int[] scores;
+        private int students;
+        private long currentStudentId;
+
+        private ItemAccumulator(QuizQuestionSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.answerKey = snapshot.getAnswerKey();
+            this.questionCount = answerKey.getQuestionCount();
+            this.words = Math.max(1, (questionCount + 63) >>> 6);
+
+            this.responseCounts = new int[questionCount];
+            this.correctCounts = new int[questionCount];
+            this.options = new String[questionCount][];
+            this.optionCounts = new int[questionCount][];
+            this.otherCounts = new int[questionCount];
+            for (int ordinal = 0; ordinal < questionCount; ordinal++) {
+                options[ordinal] = parseOptions(snapshot.getQuestions().get(ordinal));
+                optionCounts[ordinal] = options[ordinal] != null ? new int[options[ordinal].length] : null;
+            }
+
+            this.correctMasks = new long[64 * words];
+            this.scores = new int[64];
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long studentId = rs.getLong(1);
+            if (students == 0 || studentId != currentStudentId) {
+                startStudent(studentId);
+            }
+
+            QuizAnswerKey.Entry entry = answerKey.getEntry(rs.getLong(2));
+            if (entry == null) {
+                return;
+            }
+
+            int ordinal = entry.getOrdinal();
+            int slot = students - 1;
+            responseCounts[ordinal]++;
+            if (rs.getBoolean(4)) {
+                correctCounts[ordinal]++;
+                correctMasks[slot * words + (ordinal >>> 6)] |= 1L << ordinal;
+                scores[slot] += entry.getPoints();
+            }
+            if (options[ordinal] != null) {
+                countOption(ordinal, rs.getString(3));
+            }
+        }
+
+        private void startStudent(long studentId) {
+            if (students == scores.length) {
+                scores = Arrays.copyOf(scores, students * 2);
+                correctMasks = Arrays.copyOf(correctMasks, students * 2 * words);
+            }
+            students++;
+            currentStudentId = studentId;
+        }
+
+        /**
+         * 객관식 채점과 같은 기준(앞뒤 공백 제거, 대소문자 무시)으로 보기 매칭
+         */
+        private void countOption(int ordinal, String answer) {
+            if (answer != null) {
+                String trimmed = answer.trim();
+                String[] labels = options[ordinal];
+                for (int i = 0; i < labels.length; i++) {
+                    if (labels[i] != null && labels[i].trim().equalsIgnoreCase(trimmed)) {
+                        optionCounts[ordinal][i]++;
+                        return;
+                    }
+                }
+            }
+            otherCounts[ordinal]++;
+        }
+
+        private QuizItemAnalysisResponse toResponse(Quiz quiz) {
+            int groupSize = students < 2 ? 0 : Math.max(1, (int) Math.round(students * GROUP_RATIO));
+            int[] upperCorrect = new int[questionCount];
+            int[] lowerCorrect = new int[questionCount];
+
+            if (groupSize > 0) {
+                // 점수(상위 32비트)와 슬롯 번호(하위 32비트)를 묶어 기본형 정렬
+                long[] ranked = new long[students];
+                for (int slot = 0; slot < students; slot++) {
+                    ranked[slot] = ((long) scores[slot] << 32) | slot;
+                }
+                Arrays.sort(ranked);
+                for (int i = 0; i < groupSize; i++) {
+                    addCorrect(lowerCorrect, (int) ranked[i]);
+                    addCorrect(upperCorrect, (int) ranked[students - 1 - i]);
+                }
+            }
+
+            List<QuizItemAnalysisResponse.ItemStatistics> items = new ArrayList<>(questionCount);
+            for (QuizAnswerKey.Entry entry : answerKey.getEntries()) {
+                int ordinal = entry.getOrdinal();
+                items.add(QuizItemAnalysisResponse.ItemStatistics.builder()
+                        .questionId(entry.getQuestionId())
+                        .orderIndex(snapshot.getQuestions().get(ordinal).getOrderIndex())
+                        .questionText(entry.getQuestionText())
+                        .questionType(entry.getQuestionType() != null ? entry.getQuestionType().name() : null)
+                        .responseCount(responseCounts[ordinal])
+                        .correctCount(correctCounts[ordinal])
+                        .difficulty(ratio(correctCounts[ordinal], students))
+                        .discrimination(groupSize > 0
+                                ? Math.round((upperCorrect[ordinal] - lowerCorrect[ordinal]) * 1000.0 / groupSize) / 1000.0
+                                : null)
+                        .optionDistribution(optionDistribution(ordinal))
+                        .otherCount(options[ordinal] != null ? otherCounts[ordinal] : null)
+                        .build());
+            }
+
+            return QuizItemAnalysisResponse.builder()
+                    .quizId(quiz.getQuizId())
+                    .quizTitle(quiz.getTitle())
+                    .totalParticipants(students)
+                    .groupSize(groupSize)
+                    .generatedAt(LocalDateTime.now())
+                    .items(items)
+                    .build();
+        }
+
+        private void addCorrect(int[] counts, int slot) {
+            int base = slot * words;
+            for (int ordinal = 0; ordinal < questionCount; ordinal++) {
+                if ((correctMasks[base + (ordinal >>> 6)] & (1L << ordinal)) != 0) {
+                    counts[ordinal]++;
+                }
+            }
+        }
+
+        private List<QuizItemAnalysisResponse.OptionCount> optionDistribution(int ordinal) {
+            if (options[ordinal] == null) {
+                return null;
+            }
+            List<QuizItemAnalysisResponse.OptionCount> distribution = new ArrayList<>(options[ordinal].length);
+            for (int i = 0; i < options[ordinal].length; i++) {
+                distribution.add(new QuizItemAnalysisResponse.OptionCount(options[ordinal][i], optionCounts[ordinal][i]));
+            }
+            return distribution;
+        }
+    }
+}
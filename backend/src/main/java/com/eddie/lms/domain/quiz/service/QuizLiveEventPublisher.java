@@ -0,0 +1,128 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizLiveUpdateMessage;
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 교육자 대시보드용 실시간 응시 현황 발행
+ * 세션 상태/감지 카운트/제출 이벤트를 퀴즈별로 모아 두었다가 주기마다 한 프레임으로 전송
+ * 제출이 있었던 구간에는 점수 분포도 프레임당 한 번만 계산하여 함께 전송
+ * 같은 학생의 연속 변경은 마지막 값만 남기므로 응시 인원과 무관하게 초당 프레임 수가 제한됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizLiveEventPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+
+    private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    public static String destinationOf(Long quizId) {
+        return "/topic/quizzes/" + quizId + "/sessions";
+    }
+
+    /**
+     * 세션 상태 변경 (시작, 진행, 완료, 강제 종료, 만료)
+     */
+    public void sessionStatusChanged(QuizSession session) {
+        String status = session.getSessionStatus().name();
+        pending.compute(session.getQuizId(), (quizId, update) -> {
+            update = update != null ? update : new PendingUpdate();
+            update.studentUpdate(session.getStudentId()).setStatus(status);
+            return update;
+        });
+    }
+
+    /**
+     * 감지 카운트 변경
+     */
+    public void proctoringChanged(Long quizId, Long studentId, QuizProctoringService.ProctoringCounts counts) {
+        pending.compute(quizId, (id, update) -> {
+            update = update != null ? update : new PendingUpdate();
+            QuizLiveUpdateMessage.SessionUpdate studentUpdate = update.studentUpdate(studentId);
+            studentUpdate.setTabSwitchCount(counts.getTabSwitchCount());
+            studentUpdate.setViolationCount(counts.getViolationCount());
+            studentUpdate.setWarningCount(counts.getWarningCount());
+            return update;
+        });
+    }
+
+    /**
+     * 답안 제출 (aggregate는 집계가 메모리에 없으면 null)
+     */
+    public void submissionRecorded(Long quizId, Long studentId, QuizResultAggregate aggregate) {
+        pending.compute(quizId, (id, update) -> {
+            update = update != null ? update : new PendingUpdate();
+            update.submittedStudentIds.add(studentId);
+            if (aggregate != null) {
+                update.aggregate = aggregate;
+            }
+            return update;
+        });
+    }
+
+    /**
+     * 모아 둔 변경분 전송 - 구독자가 없는 퀴즈는 버림
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.live.flush-interval-ms:300}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (Long quizId : new ArrayList<>(pending.keySet())) {
+            PendingUpdate update = pending.remove(quizId);
+            String destination = destinationOf(quizId);
+            if (update == null || !hasSubscribers(destination)) {
+                continue;
+            }
+
+            QuizLiveUpdateMessage message = QuizLiveUpdateMessage.builder()
+                    .quizId(quizId)
+                    .sessions(new ArrayList<>(update.sessions.values()))
+                    .submittedStudentIds(update.submittedStudentIds)
+                    .submittedCount(update.aggregate != null ? update.aggregate.getParticipantCount() : null)
+                    .distribution(update.aggregate != null ? update.aggregate.liveDistribution() : null)
+                    .timestamp(LocalDateTime.now())
+                    .build();
+            try {
+                messagingTemplate.convertAndSend(destination, message);
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish live update for quiz: {}", quizId, e);
+            }
+        }
+    }
+
+    private boolean hasSubscribers(String destination) {
+        return !userRegistry.findSubscriptions(subscription -> destination.equals(subscription.getDestination())).isEmpty();
+    }
+
+    /**
+     * 퀴즈별 미전송 변경분 (ConcurrentHashMap.compute 안에서만 변경)
+     */
+    private static final class PendingUpdate {
+        private final Map<Long, QuizLiveUpdateMessage.SessionUpdate> sessions = new LinkedHashMap<>();
+        private final List<Long> submittedStudentIds = new ArrayList<>();
+        private QuizResultAggregate aggregate;
+
+        private QuizLiveUpdateMessage.SessionUpdate studentUpdate(Long studentId) {
+            return sessions.computeIfAbsent(studentId,
+                    id -> QuizLiveUpdateMessage.SessionUpdate.builder().studentId(id).build());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordRepository;
+import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈별 응시 여부 색인
+ * 답안을 제출한 학생과 세션을 시작한 학생의 ID를 퀴즈마다 BitSet으로 보관하여
+ * 제출/응시 여부 확인 시 DB를 조회하지 않음 (처음 조회할 때 DB에서 한 번 적재)
+ * 변경은 트랜잭션 커밋 이후에만 반영하므로 롤백된 제출이 색인에 남지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizParticipationIndex {
+
+    private final QuizAnswerRecordRepository responseRepository;
+    private final QuizSessionRepository quizSessionRepository;
+
+    @Value("${app.quiz.participation-index.max-quizzes:1000}")
+    private int maxQuizzes;
+
+    private final PendingLoads<Long> pendingLoads = new PendingLoads<>();
+    private final LinkedHashMap<Long, Participation> participations = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Participation> eldest) {
+            return size() > maxQuizzes;
+        }
+    };
+
+    /**
+     * 답안 제출 여부
+     */
+    public boolean hasSubmitted(Long quizId, Long studentId) {
+        if (!indexable(studentId)) {
+            return responseRepository.existsByQuizIdAndStudentId(quizId, studentId);
+        }
+        Participation participation = get(quizId);
+        synchronized (participation) {
+            return participation.submitted.get(studentId.intValue());
+        }
+    }
+
+    /**
+     * 세션 시작 여부 (중도 이탈 포함)
+     */
+    public boolean hasStarted(Long quizId, Long studentId) {
+        if (!indexable(studentId)) {
+            return quizSessionRepository.existsByQuizIdAndStudentId(quizId, studentId);
+        }
+        Participation participation = get(quizId);
+        synchronized (participation) {
+            return participation.started.get(studentId.intValue());
+        }
+    }
+
+    /**
+     * 제출했거나 세션을 시작한 적이 있는지 (재응시 불가 여부)
+     */
+    public boolean hasParticipated(Long quizId, Long studentId) {
+        if (!indexable(studentId)) {
+            return responseRepository.existsByQuizIdAndStudentId(quizId, studentId) ||
+                    quizSessionRepository.existsByQuizIdAndStudentId(quizId, studentId);
+        }
+        Participation participation = get(quizId);
+        int index = studentId.intValue();
+        synchronized (participation) {
+            return participation.submitted.get(index) || participation.started.get(index);
+        }
+    }
+
+    /**
+     * 답안을 제출한 학생 수 (DB 집계 없이 색인에서 계산)
+     */
+    public int countSubmitted(Long quizId) {
+        Participation participation = get(quizId);
+        synchronized (participation) {
+            return participation.submitted.cardinality();
+        }
+    }
+
+    public void markSubmitted(Long quizId, Long studentId) {
+        afterCommit(() -> update(quizId, studentId, true));
+    }
+
+    public void markStarted(Long quizId, Long studentId) {
+        afterCommit(() -> update(quizId, studentId, false));
+    }
+
+    /**
+     * 퀴즈 삭제 등으로 응시 기록이 사라진 경우 색인 폐기 (다음 조회 시 재적재)
+     */
+    public void invalidate(Long quizId) {
+        evict(quizId);
+        afterCommit(() -> evict(quizId));
+    }
+
+    // === Private Helper Methods ===
+
+    private Participation get(Long quizId) {
+        long invalidatedAt;
+        synchronized (this) {
+            Participation cached = participations.get(quizId);
+            if (cached != null) {
+                return cached;
+            }
+            invalidatedAt = pendingLoads.start(quizId);
+        }
+
+        Participation loaded = null;
+        try {
+            loaded = load(quizId);
+        } finally {
+            synchronized (this) {
+                // 적재 도중 변경이 있었다면 이전 상태일 수 있으므로 보관하지 않음
+                if (pendingLoads.finish(quizId, invalidatedAt) && loaded != null) {
+                    Participation raced = participations.putIfAbsent(quizId, loaded);
+                    if (raced != null) {
+                        loaded = raced;
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Participation load(Long quizId) {
+        Participation loaded = new Participation();
+        List<Long> submitted = responseRepository.findDistinctStudentIdsByQuizId(quizId);
+        List<Long> started = quizSessionRepository.findStudentIdsByQuizId(quizId);
+        submitted.stream().filter(QuizParticipationIndex::indexable).forEach(id -> loaded.submitted.set(id.intValue()));
+        started.stream().filter(QuizParticipationIndex::indexable).forEach(id -> loaded.started.set(id.intValue()));
+        log.debug("Loaded participation index for quiz: {} ({} submitted, {} started)",
+                quizId, submitted.size(), started.size());
+        return loaded;
+    }
+
+    private void update(Long quizId, Long studentId, boolean submitted) {
+        Participation participation;
+        synchronized (this) {
+            participation = participations.get(quizId);
+            if (participation == null || !indexable(studentId)) {
+                // 적재 중인 조회가 이 변경을 놓친 상태로 보관하지 않도록 표시
+                pendingLoads.invalidate(quizId);
+                return;
+            }
+        }
+        synchronized (participation) {
+            (submitted ? participation.submitted : participation.started).set(studentId.intValue());
+        }
+    }
+
+    private synchronized void evict(Long quizId) {
+        pendingLoads.invalidate(quizId);
+        participations.remove(quizId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * BitSet 인덱스로 쓸 수 있는 ID인지 (범위 밖이면 DB 조회로 대체)
+     */
+    private static boolean indexable(Long studentId) {
+        return studentId != null && studentId >= 0 && studentId <= Integer.MAX_VALUE;
+    }
+
+    private static final class Participation {
+        private final BitSet submitted = new BitSet();
+        private final BitSet started = new BitSet();
+    }
+}
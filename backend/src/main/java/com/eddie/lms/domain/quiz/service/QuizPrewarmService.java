@@ -0,0 +1,113 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.classroom.entity.ClassroomMember;
+import com.eddie.lms.domain.classroom.repository.ClassroomMemberRepository;
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.repository.QuizRepository;
+import com.eddie.lms.domain.user.service.UserLookupCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈 시작 전 캐시 예열
+ * 시작 시각이 lead-minutes 이내인 퀴즈의 문제 스냅샷, 학습자용 직렬화 결과, 결과 집계,
+ * 클래스룸 멤버/출제자 사용자 정보를 미리 적재하여 시작 직후 요청이 캐시에서 처리되도록 함
+ * 예열 결과는 actuator 메트릭(quiz.prewarm.*)으로 노출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizPrewarmService {
+
+    private final QuizRepository quizRepository;
+    private final ClassroomMemberRepository classroomMemberRepository;
+    private final QuizQuestionCache questionCache;
+    private final QuizResponseService responseService;
+    private final QuizResultAggregateService resultAggregateService;
+    private final UserLookupCache userLookupCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.quiz.prewarm.lead-minutes:10}")
+    private long leadMinutes;
+
+    private final Map<Long, LocalDateTime> warmed = new ConcurrentHashMap<>(); // 퀴즈 ID -> 예열한 퀴즈의 수정 시각
+
+    private Counter warmedQuizzes;
+    private Counter failedQuizzes;
+    private Counter warmedUsers;
+    private Timer warmTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        warmedQuizzes = Counter.builder("quiz.prewarm.quizzes").tag("result", "success")
+                .description("예열한 퀴즈 수").register(meterRegistry);
+        failedQuizzes = Counter.builder("quiz.prewarm.quizzes").tag("result", "failure")
+                .description("예열에 실패한 퀴즈 수").register(meterRegistry);
+        warmedUsers = Counter.builder("quiz.prewarm.users")
+                .description("예열로 적재한 사용자 수").register(meterRegistry);
+        warmTimer = Timer.builder("quiz.prewarm.duration")
+                .description("퀴즈 1건 예열 소요 시간").register(meterRegistry);
+    }
+
+    /**
+     * 곧 시작할 퀴즈 예열 (1분마다)
+     * 이미 예열했고 그 뒤로 수정되지 않은 퀴즈는 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.prewarm.interval-ms:60000}")
+    public void warmUpcomingQuizzes() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Quiz> upcoming = quizRepository.findByStartTimeBetween(now, now.plusMinutes(leadMinutes));
+
+        List<Quiz> targets = new ArrayList<>();
+        for (Quiz quiz : upcoming) {
+            LocalDateTime warmedVersion = warmed.get(quiz.getQuizId());
+            if (warmedVersion == null || !warmedVersion.equals(quiz.getUpdatedAt())) {
+                targets.add(quiz);
+            }
+        }
+        targets.forEach(this::warm);
+
+        // 이미 시작한 퀴즈는 예열 기록에서 제거 (캐시 자체는 LRU/TTL로 관리)
+        warmed.keySet().removeIf(quizId -> upcoming.stream().noneMatch(quiz -> quiz.getQuizId().equals(quizId)));
+
+        if (!targets.isEmpty()) {
+            log.info("Prewarmed {} quizzes starting within {} minutes", targets.size(), leadMinutes);
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private void warm(Quiz quiz) {
+        try {
+            warmTimer.record(() -> {
+                QuizQuestionSnapshot snapshot = questionCache.get(quiz.getQuizId());
+                responseService.getLearnerPayload(snapshot);
+                resultAggregateService.getAggregate(snapshot.getAnswerKey());
+
+                List<Long> userIds = new ArrayList<>();
+                userIds.add(quiz.getCreatorId());
+                classroomMemberRepository.findByClassroomIdAndStatus(quiz.getClassroomId(), ClassroomMember.MemberStatus.ACTIVE)
+                        .forEach(member -> userIds.add(member.getUserId()));
+                warmedUsers.increment(userLookupCache.warm(userIds));
+            });
+            warmed.put(quiz.getQuizId(), quiz.getUpdatedAt());
+            warmedQuizzes.increment();
+        } catch (RuntimeException e) {
+            failedQuizzes.increment();
+            log.warn("Failed to prewarm quiz: {}", quiz.getQuizId(), e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퀴즈 부정행위 감지 이벤트 수집 서비스
+ * 세션별 카운터(LongAdder)에 이벤트를 누적하고 증가분만 주기적으로 일괄 UPDATE
+ * 강제 종료 기준은 메모리 누적값으로 판정하여 기준 도달 즉시 세션 종료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizProctoringService {
+
+    private static final String INCREMENT_COUNTS_SQL =
+            "UPDATE quiz_session SET tab_switch_count = tab_switch_count + ?, " +
+                    "violation_count = violation_count + ?, warning_count = warning_count + ? " +
+                    "WHERE session_token = ?";
+
+    private final QuizSessionRegistry sessionRegistry;
+    private final QuizSessionService quizSessionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final QuizLiveEventPublisher liveEventPublisher;
+
+    private final Map<String, SessionCounters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 감지 이벤트 기록 - 누적값이 종료 기준에 도달하면 세션 강제 종료
+     */
+    public ProctoringCounts recordEvent(String sessionToken, EventType eventType) {
+        QuizSession session = sessionRegistry.find(sessionToken)
+                .filter(QuizSession::isActive)
+                .orElseThrow(() -> new IllegalStateException("유효하지 않은 세션입니다: " + sessionToken));
+
+        SessionCounters sessionCounters = counters.computeIfAbsent(sessionToken, token -> new SessionCounters(session));
+        sessionCounters.increment(eventType);
+
+        ProctoringCounts counts = sessionCounters.totals(false);
+        liveEventPublisher.proctoringChanged(session.getQuizId(), session.getStudentId(), counts);
+        if (counts.exceedsLimits() && sessionCounters.terminated.compareAndSet(false, true)) {
+            String reason = String.format("부정행위 감지 기준 초과 (탭 이탈 %d회, 위반 %d회, 경고 %d회)",
+                    counts.getTabSwitchCount(), counts.getViolationCount(), counts.getWarningCount());
+            try {
+                quizSessionService.terminateSession(sessionToken, reason);
+            } catch (IllegalStateException e) {
+                log.debug("Session already inactive while terminating: {}", sessionToken);
+            } catch (RuntimeException e) {
+                // 종료 저장 실패 시 다음 이벤트에서 다시 종료를 시도하도록 플래그 복구
+                sessionCounters.terminated.set(false);
+                throw e;
+            }
+            return sessionCounters.totals(true);
+        }
+        return counts;
+    }
+
+    /**
+     * 세션의 현재 누적 카운트 (저장 전 증가분 포함)
+     */
+    public ProctoringCounts getCounts(QuizSession session) {
+        SessionCounters sessionCounters = counters.get(session.getSessionToken());
+        if (sessionCounters != null) {
+            return sessionCounters.totals(sessionCounters.terminated.get());
+        }
+        return new ProctoringCounts(session.getTabSwitchCount(), session.getViolationCount(),
+                session.getWarningCount(), !session.isActive());
+    }
+
+    /**
+     * 증가분 일괄 저장 (1초마다)
+     * 저장 완료된 비활성 세션의 카운터는 제거
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.proctoring.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<SessionCounters> flushed = new ArrayList<>();
+        List<long[]> deltas = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        for (Map.Entry<String, SessionCounters> entry : counters.entrySet()) {
+            long[] delta = entry.getValue().pendingDelta();
+            if (delta[0] == 0 && delta[1] == 0 && delta[2] == 0) {
+                removeIfInactive(entry.getKey(), entry.getValue());
+                continue;
+            }
+            flushed.add(entry.getValue());
+            deltas.add(delta);
+            batchArgs.add(new Object[]{delta[0], delta[1], delta[2], entry.getKey()});
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INCREMENT_COUNTS_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            log.error("Failed to persist proctoring counts for {} sessions, will retry", batchArgs.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < flushed.size(); i++) {
+            flushed.get(i).markFlushed(deltas.get(i));
+        }
+        log.debug("Persisted proctoring counts for {} sessions", flushed.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // === Private Helper Methods ===
+
+    private void removeIfInactive(String sessionToken, SessionCounters sessionCounters) {
+        boolean active = sessionRegistry.find(sessionToken)
+                .map(QuizSession::isActive)
+                .orElse(false);
+        if (!active) {
+            counters.remove(sessionToken, sessionCounters);
+        }
+    }
+
+    /**
+     * 감지 이벤트 유형
+     */
+    public enum EventType {
+        TAB_SWITCH,   // 탭 이탈
+        VIOLATION,    // 개발자 도구, 복사붙여넣기 등 위반
+        WARNING       // 경고
+    }
+
+    /**
+     * 누적 카운트 조회 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ProctoringCounts {
+        private final long tabSwitchCount;
+        private final long violationCount;
+        private final long warningCount;
+        private final boolean terminated;
+
+        public boolean exceedsLimits() {
+            return QuizSession.exceedsLimits(tabSwitchCount, violationCount, warningCount);
+        }
+    }
+
+    /**
+     * 세션별 카운터 - 기준값(DB 저장분) + 메모리 누적값, 저장된 누적값은 flushed로 추적
+     */
+    private static final class SessionCounters {
+        private final long baseTabSwitch;
+        private final long baseViolation;
+        private final long baseWarning;
+        private final LongAdder tabSwitch = new LongAdder();
+        private final LongAdder violation = new LongAdder();
+        private final LongAdder warning = new LongAdder();
+        private final long[] flushed = new long[3];
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        private SessionCounters(QuizSession session) {
+            this.baseTabSwitch = session.getTabSwitchCount() != null ? session.getTabSwitchCount() : 0;
+            this.baseViolation = session.getViolationCount() != null ? session.getViolationCount() : 0;
+            this.baseWarning = session.getWarningCount() != null ? session.getWarningCount() : 0;
+        }
+
+        private void increment(EventType eventType) {
+            switch (eventType) {
+                case TAB_SWITCH -> tabSwitch.increment();
+                case VIOLATION -> violation.increment();
+                case WARNING -> warning.increment();
+            }
+        }
+
+        private ProctoringCounts totals(boolean terminated) {
+            return new ProctoringCounts(baseTabSwitch + tabSwitch.sum(), baseViolation + violation.sum(),
+                    baseWarning + warning.sum(), terminated);
+        }
+
+        /**
+         * flush 스레드에서만 호출
+         */
+        private long[] pendingDelta() {
+            return new long[]{
+                    tabSwitch.sum() - flushed[0],
+                    violation.sum() - flushed[1],
+                    warning.sum() - flushed[2]
+            };
+        }
+
+        private void markFlushed(long[] delta) {
+            for (int i = 0; i < flushed.length; i++) {
+                flushed[i] += delta[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.repository.QuizQuestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 퀴즈 문제 스냅샷 캐시 (LRU, 크기 제한)
+ * 문제는 QuizService의 생성/수정/삭제로만 바뀌므로 해당 지점에서 invalidate 호출
+ * 무효화한 트랜잭션 안에서의 조회는 커밋 전 문제가 다른 요청에 보이지 않도록 캐시를 거치지 않음
+ * 적중/미스/제거 수는 actuator 메트릭(quiz.question.cache.*)으로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizQuestionCache {
+
+    private final QuizQuestionRepository questionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.quiz.question-cache.max-size:1000}")
+    private int maxSize;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final PendingLoads<Long> pendingLoads = new PendingLoads<>();
+    private final LinkedHashMap<Long, QuizQuestionSnapshot> snapshots = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, QuizQuestionSnapshot> eldest) {
+            boolean evict = size() > maxSize;
+            if (evict) {
+                evictions.increment();
+            }
+            return evict;
+        }
+    };
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder("quiz.question.cache.requests").tag("result", "hit")
+                .description("퀴즈 문제 캐시 적중").register(meterRegistry);
+        misses = Counter.builder("quiz.question.cache.requests").tag("result", "miss")
+                .description("퀴즈 문제 캐시 미스").register(meterRegistry);
+        evictions = Counter.builder("quiz.question.cache.evictions")
+                .description("크기 제한으로 제거된 스냅샷 수").register(meterRegistry);
+        Gauge.builder("quiz.question.cache.size", this, QuizQuestionCache::size)
+                .description("캐시된 퀴즈 수").register(meterRegistry);
+    }
+
+    /**
+     * 문제 스냅샷 조회 (없으면 DB에서 읽어 캐시)
+     */
+    public QuizQuestionSnapshot get(Long quizId) {
+        Set<Long> invalidatedInTransaction = invalidatedInTransaction();
+        if (invalidatedInTransaction != null && invalidatedInTransaction.contains(quizId)) {
+            return QuizQuestionSnapshot.of(quizId, versionSequence.incrementAndGet(),
+                    questionRepository.findByQuizIdOrderByOrderIndex(quizId));
+        }
+
+        long invalidatedAt;
+        synchronized (this) {
+            QuizQuestionSnapshot cached = snapshots.get(quizId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            invalidatedAt = pendingLoads.start(quizId);
+        }
+
+        misses.increment();
+        QuizQuestionSnapshot loaded = null;
+        try {
+            loaded = QuizQuestionSnapshot.of(quizId, versionSequence.incrementAndGet(),
+                    questionRepository.findByQuizIdOrderByOrderIndex(quizId));
+        } finally {
+            synchronized (this) {
+                // 조회 도중 무효화되었다면 이전 문제일 수 있으므로 캐시하지 않음
+                if (pendingLoads.finish(quizId, invalidatedAt) && loaded != null) {
+                    QuizQuestionSnapshot raced = snapshots.putIfAbsent(quizId, loaded);
+                    if (raced != null) {
+                        loaded = raced;
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public QuizAnswerKey getAnswerKey(Long quizId) {
+        return get(quizId).getAnswerKey();
+    }
+
+    /**
+     * 문제 변경 시 스냅샷 폐기 (트랜잭션 중이면 커밋/롤백 이후에도 한 번 더 폐기)
+     */
+    public void invalidate(Long quizId) {
+        evict(quizId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<Long> quizIds = invalidatedInTransaction();
+            if (quizIds == null) {
+                Set<Long> bound = new HashSet<>();
+                TransactionSynchronizationManager.bindResource(this, bound);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(QuizQuestionCache.this);
+                        bound.forEach(QuizQuestionCache.this::evict);
+                    }
+                });
+                quizIds = bound;
+            }
+            quizIds.add(quizId);
+        }
+        log.debug("Question snapshot invalidated for quiz: {}", quizId);
+    }
+
+    public synchronized int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * 현재 트랜잭션에서 무효화한 퀴즈 ID (트랜잭션 밖이거나 무효화가 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> invalidatedInTransaction() {
+        return (Set<Long>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private synchronized void evict(Long quizId) {
+        pendingLoads.invalidate(quizId);
+        snapshots.remove(quizId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizQuestion;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 문제 스냅샷 (불변, 버전 포함)
+ * 캐시에서 여러 요청이 공유하므로 영속성 컨텍스트와 분리된 복사본만 보관
+ */
+public final class QuizQuestionSnapshot {
+
+    private final Long quizId;
+    private final long version;
+    private final List<QuizQuestion> questions;
+    private final QuizAnswerKey answerKey;
+    private volatile LearnerQuestionPayload learnerPayload;
+    private volatile String contentHash;
+
+    private QuizQuestionSnapshot(Long quizId, long version, List<QuizQuestion> questions) {
+        this.quizId = quizId;
+        this.version = version;
+        this.questions = Collections.unmodifiableList(questions);
+        this.answerKey = QuizAnswerKey.compile(quizId, this.questions);
+    }
+
+    static QuizQuestionSnapshot of(Long quizId, long version, List<QuizQuestion> questions) {
+        List<QuizQuestion> copies = questions.stream()
+                .map(q -> QuizQuestion.builder()
+                        .questionId(q.getQuestionId())
+                        .quizId(q.getQuizId())
+                        .questionText(q.getQuestionText())
+                        .questionType(q.getQuestionType())
+                        .options(q.getOptions())
+                        .correctAnswer(q.getCorrectAnswer())
+                        .points(q.getPoints())
+                        .orderIndex(q.getOrderIndex())
+                        .build())
+                .collect(Collectors.toList());
+        return new QuizQuestionSnapshot(quizId, version, copies);
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    /**
+     * 스냅샷 버전 (프로세스 내 적재 순번 - 재기동이나 재적재 시 바뀌므로 ETag에는 contentHash 사용)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * orderIndex 순 문제 목록 (읽기 전용)
+     */
+    public List<QuizQuestion> getQuestions() {
+        return questions;
+    }
+
+    public QuizAnswerKey getAnswerKey() {
+        return answerKey;
+    }
+
+    public int getQuestionCount() {
+        return questions.size();
+    }
+
+    public int getTotalPoints() {
+        return answerKey.getTotalPoints();
+    }
+
+    /**
+     * 학습자용 문제 직렬화 결과 (처음 요청 시 한 번만 생성)
+     */
+    public LearnerQuestionPayload getLearnerPayload(Function<List<QuizQuestion>, LearnerQuestionPayload> renderer) {
+        LearnerQuestionPayload payload = learnerPayload;
+        if (payload == null) {
+            synchronized (this) {
+                payload = learnerPayload;
+                if (payload == null) {
+                    payload = renderer.apply(questions);
+                    learnerPayload = payload;
+                }
+            }
+        }
+        return payload;
+    }
+
+    /**
+     * 정답을 포함한 문제 내용 해시 (처음 요청 시 한 번만 계산, 같은 문제면 어느 인스턴스에서도 같은 값)
+     */
+    public String getContentHash() {
+        String hash = contentHash;
+        if (hash == null) {
+            StringBuilder content = new StringBuilder();
+            for (QuizQuestion q : questions) {
+                content.append(q.getQuestionId()).append('\u001f')
+                        .append(q.getQuestionText()).append('\u001f')
+                        .append(q.getQuestionType()).append('\u001f')
+                        .append(q.getOptions()).append('\u001f')
+                        .append(q.getCorrectAnswer()).append('\u001f')
+                        .append(q.getPoints()).append('\u001f')
+                        .append(q.getOrderIndex()).append('\u001e');
+            }
+            hash = DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+            contentHash = hash;
+        }
+        return hash;
+    }
+}
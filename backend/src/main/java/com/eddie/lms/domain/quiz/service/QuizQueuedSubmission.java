@@ -0,0 +1,22 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.request.QuizSubmitRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 접수 큐에 대기 중인 퀴즈 제출 (접수 시각 기준으로 채점/마감 판정)
+ */
+@Getter
+@AllArgsConstructor
+public class QuizQueuedSubmission {
+    private final String ticketId;
+    private final Long classroomId;
+    private final Long quizId;
+    private final Long studentId;
+    private final List<QuizSubmitRequest.AnswerRequest> answers;
+    private final LocalDateTime receivedAt;
+}
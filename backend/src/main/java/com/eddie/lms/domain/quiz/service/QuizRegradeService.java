@@ -0,0 +1,291 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizRegradeJobResponse;
+import com.eddie.lms.domain.quiz.entity.QuizAnswerRecord;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 퀴즈 재채점 서비스
+ * 정답이 바뀐 문제의 답안을 response_id 순 페이지로 읽어 채점 풀에서 병렬 채점하고,
+ * 결과가 달라진 행만 일괄 UPDATE한 뒤 학생별 결과 집계를 다시 계산
+ * 동시에 처리 중인 페이지 수를 제한하므로 답안 전체를 메모리에 올리지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizRegradeService {
+
+    private final QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
+    private final QuizAnswerRecordRepository responseRepository;
+    private final QuizQuestionCache questionCache;
+    private final QuizResultAggregateService resultAggregateService;
+    private final QuizItemAnalysisService itemAnalysisService;
+    private final QuizResultSnapshotService resultSnapshotService;
+    private final QuizCollusionService collusionService;
+
+    @Value("${app.quiz.regrade.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.quiz.regrade.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${app.quiz.regrade.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, Job> runningByQuiz = new ConcurrentHashMap<>();
+
+    private ExecutorService jobExecutor;
+    private ExecutorService gradingPool;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger jobThreads = new AtomicInteger();
+        jobExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "quiz-regrade-" + jobThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicInteger gradingThreads = new AtomicInteger();
+        gradingPool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "quiz-regrade-worker-" + gradingThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        jobExecutor.shutdown();
+        if (!jobExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Regrade jobs still running at shutdown: {}", runningByQuiz.keySet());
+            jobExecutor.shutdownNow();
+        }
+        gradingPool.shutdownNow();
+    }
+
+    /**
+     * 재채점 작업 등록 - 정답 변경 트랜잭션이 커밋된 뒤 시작 (퀴즈당 하나만 실행)
+     */
+    public QuizRegradeJobResponse startRegrade(Long quizId, List<Long> questionIds) {
+        Job job = new Job(UUID.randomUUID().toString(), quizId, List.copyOf(questionIds));
+        if (runningByQuiz.putIfAbsent(quizId, job) != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 재채점이 진행 중인 퀴즈입니다.");
+        }
+        jobs.put(job.jobId, job);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(job);
+            return job.toResponse();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(job);
+                } else {
+                    job.finish(Status.FAILED, "정답 변경이 반영되지 않아 재채점을 취소했습니다.");
+                    runningByQuiz.remove(job.quizId, job);
+                }
+            }
+        });
+        return job.toResponse();
+    }
+
+    /**
+     * 재채점 작업 진행 상황 조회
+     */
+    public QuizRegradeJobResponse getJob(Long quizId, String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.quizId.equals(quizId)) {
+            throw new EntityNotFoundException("재채점 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 끝난 지 오래된 작업 정리 (10분마다)
+     */
+    @Scheduled(fixedRate = 600000)
+    public void cleanupJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    // === Private Helper Methods ===
+
+    private void submit(Job job) {
+        try {
+            jobExecutor.submit(() -> run(job));
+        } catch (RuntimeException e) {
+            job.finish(Status.FAILED, "재채점 작업을 시작할 수 없습니다.");
+            runningByQuiz.remove(job.quizId, job);
+            log.error("Failed to schedule regrade for quiz: {}", job.quizId, e);
+        }
+    }
+
+    private void run(Job job) {
+        long startedNanos = System.nanoTime();
+        job.startedAt = LocalDateTime.now();
+        job.status = Status.RUNNING;
+
+        try {
+            QuizAnswerKey answerKey = questionCache.getAnswerKey(job.quizId);
+            job.total = responseRepository.countByQuizIdAndQuestionIdIn(job.quizId, job.questionIds);
+            gradeAll(job, answerKey);
+        } catch (Exception e) {
+            job.failure.compareAndSet(null, e);
+        }
+
+        try {
+            // 배점만 바뀐 경우나 일부만 반영된 경우에도 결과 집계가 답안 기록과 일치하도록 재계산
+            resultAggregateService.rebuild(job.quizId);
+            itemAnalysisService.invalidate(job.quizId);
+            resultSnapshotService.invalidate(job.quizId);
+            // 유사도 분석의 오답 기준이 바뀌었으므로 이전 분석 결과 폐기 후 재분석
+            collusionService.answerKeyChanged(job.quizId);
+        } catch (Exception e) {
+            job.failure.compareAndSet(null, e);
+        }
+
+        Throwable failure = job.failure.get();
+        if (failure == null) {
+            job.finish(Status.COMPLETED, null);
+            log.info("Regraded quiz: {} - {} answers checked, {} changed in {} ms", job.quizId,
+                    job.processed.get(), job.changed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos));
+        } else {
+            job.finish(Status.FAILED, failure.getMessage());
+            log.error("Regrade failed for quiz: {} after {} answers", job.quizId, job.processed.get(), failure);
+        }
+        runningByQuiz.remove(job.quizId, job);
+    }
+
+    /**
+     * 페이지 단위로 읽어 채점 풀에 넘김 - 세마포어로 처리 중인 페이지 수 제한
+     */
+    private void gradeAll(Job job, QuizAnswerKey answerKey) throws InterruptedException {
+        int maxInFlight = parallelism * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long lastResponseId = 0;
+
+        while (job.failure.get() == null) {
+            List<QuizAnswerRecord> page = answerRecordJdbcRepository.findAnswerPage(
+                    job.quizId, job.questionIds, lastResponseId, chunkSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastResponseId = page.get(page.size() - 1).getResponseId();
+
+            inFlight.acquire();
+            try {
+                gradingPool.execute(() -> {
+                    try {
+                        gradeChunk(job, answerKey, page);
+                    } catch (Exception e) {
+                        job.failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+
+            if (page.size() < chunkSize) {
+                break;
+            }
+        }
+
+        inFlight.acquire(maxInFlight);
+    }
+
+    private void gradeChunk(Job job, QuizAnswerKey answerKey, List<QuizAnswerRecord> chunk) {
+        List<QuizAnswerRecord> changed = new ArrayList<>();
+        for (QuizAnswerRecord record : chunk) {
+            QuizAnswerKey.Entry entry = answerKey.getEntry(record.getQuestionId());
+            boolean isCorrect = entry != null && entry.grade(record.getAnswer());
+            if (isCorrect != Boolean.TRUE.equals(record.getIsCorrect())) {
+                record.setIsCorrect(isCorrect);
+                changed.add(record);
+            }
+        }
+
+        answerRecordJdbcRepository.updateCorrectness(changed);
+        job.changed.addAndGet(changed.size());
+        job.processed.addAndGet(chunk.size());
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private static final class Job {
+        private final String jobId;
+        private final Long quizId;
+        private final List<Long> questionIds;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong changed = new AtomicLong();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile Status status = Status.PENDING;
+        private volatile long total;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String jobId, Long quizId, List<Long> questionIds) {
+            this.jobId = jobId;
+            this.quizId = quizId;
+            this.questionIds = questionIds;
+        }
+
+        private void finish(Status status, String message) {
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private QuizRegradeJobResponse toResponse() {
+            return QuizRegradeJobResponse.builder()
+                    .jobId(jobId)
+                    .quizId(quizId)
+                    .questionIds(questionIds)
+                    .status(status.name())
+                    .totalAnswers(total)
+                    .processedAnswers(processed.get())
+                    .changedAnswers(changed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -10,13 +10,23 @@ import com.eddie.lms.domain.quiz.repository.QuizQuestionRepository;
 import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
 import com.eddie.lms.domain.user.entity.User;
 import com.eddie.lms.domain.user.repository.UserRepository;
+import com.eddie.lms.domain.user.service.UserLookupCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -27,42 +37,62 @@ import java.util.stream.Collectors;
 public class QuizResponseService {
 
     private final QuizQuestionRepository questionRepository;
+    private final QuizQuestionCache questionCache;
     private final QuizAnswerRecordRepository responseRepository;
     private final QuizSessionRepository quizSessionRepository;
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final ObjectMapper objectMapper;
+    private final QuizParticipationIndex participationIndex;
 
     public QuizResponse convertToQuizResponse(Quiz quiz, User creator, User requestUser) {
-        List<QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quiz.getQuizId());
-        int totalPoints = questions.stream().mapToInt(QuizQuestion::getPoints).sum();
-        int participantCount = responseRepository.countDistinctStudentsByQuizId(quiz.getQuizId());
+        QuizQuestionSnapshot snapshot = questionCache.get(quiz.getQuizId());
+        int participantCount = participationIndex.countSubmitted(quiz.getQuizId());
 
-        return QuizResponse.builder()
-                .quizId(quiz.getQuizId())
-                .classroomId(quiz.getClassroomId())
-                .creatorId(quiz.getCreatorId())
-                .creatorName(creator != null ? creator.getName() : "Unknown")
-                .title(quiz.getTitle())
-                .description(quiz.getDescription())
-                .startTime(quiz.getStartTime())
-                .endTime(quiz.getEndTime())
-                .timeLimitMinutes(quiz.getTimeLimitMinutes())
-                .createdAt(quiz.getCreatedAt())
-                .updatedAt(quiz.getUpdatedAt())
-                .totalQuestions(questions.size())
-                .totalPoints(totalPoints)
-                .participantCount(participantCount)
-                .status(getQuizStatus(quiz))
-                .hasSubmitted(checkSubmissionStatus(quiz, requestUser))
-                .build();
+        return buildQuizResponse(quiz, creator, snapshot.getQuestionCount(), snapshot.getTotalPoints(), participantCount,
+                checkSubmissionStatus(quiz, requestUser));
+    }
+
+    /**
+     * 퀴즈 목록 일괄 변환 - 퀴즈 수와 무관하게 고정된 횟수의 쿼리로 조회
+     */
+    public List<QuizResponse> convertToQuizResponses(List<Quiz> quizzes, User requestUser) {
+        if (quizzes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> quizIds = quizzes.stream().map(Quiz::getQuizId).collect(Collectors.toList());
+        Set<Long> creatorIds = quizzes.stream().map(Quiz::getCreatorId).collect(Collectors.toSet());
+
+        Map<Long, Object[]> questionStats = questionRepository.summarizeByQuizIds(quizIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+        Map<Long, Integer> participantCounts = responseRepository.countDistinctStudentsByQuizIds(quizIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+        Map<Long, User> creators = userRepository.findAllById(creatorIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Set<Long> submittedQuizIds = findSubmittedQuizIds(quizIds, requestUser);
+
+        return quizzes.stream()
+                .map(quiz -> {
+                    Object[] stats = questionStats.get(quiz.getQuizId());
+                    return buildQuizResponse(quiz,
+                            creators.get(quiz.getCreatorId()),
+                            stats != null ? ((Number) stats[1]).intValue() : 0,
+                            stats != null ? ((Number) stats[2]).intValue() : 0,
+                            participantCounts.getOrDefault(quiz.getQuizId(), 0),
+                            submittedQuizIds.contains(quiz.getQuizId()));
+                })
+                .collect(Collectors.toList());
     }
 
     public QuizDetailResponse convertToQuizDetailResponse(Quiz quiz, User requestUser) {
-        User creator = userRepository.findById(quiz.getCreatorId()).orElse(null);
-        List<QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quiz.getQuizId());
-        int totalPoints = questions.stream().mapToInt(QuizQuestion::getPoints).sum();
-        int participantCount = responseRepository.countDistinctStudentsByQuizId(quiz.getQuizId());
+        User creator = userLookupCache.find(quiz.getCreatorId()).orElse(null);
+        QuizQuestionSnapshot snapshot = questionCache.get(quiz.getQuizId());
+        boolean learnerView = requestUser.getUserType() != User.UserType.EDUCATOR;
+        // 응시자 수는 제출마다 바뀌므로 ETag로 재사용되는 학습자 응답에는 넣지 않음 (목록 API에서 제공)
+        Integer participantCount = learnerView ? null : participationIndex.countSubmitted(quiz.getQuizId());
 
-        return QuizDetailResponse.builder()
+        QuizDetailResponse response = QuizDetailResponse.builder()
                 .quizId(quiz.getQuizId())
                 .classroomId(quiz.getClassroomId())
                 .creatorId(quiz.getCreatorId())
@@ -74,22 +104,41 @@ public class QuizResponseService {
                 .timeLimitMinutes(quiz.getTimeLimitMinutes())
                 .createdAt(quiz.getCreatedAt())
                 .updatedAt(quiz.getUpdatedAt())
-                .totalQuestions(questions.size())
-                .totalPoints(totalPoints)
+                .totalQuestions(snapshot.getQuestionCount())
+                .totalPoints(snapshot.getTotalPoints())
                 .participantCount(participantCount)
                 .status(getQuizStatus(quiz))
-                .questions(buildQuestionResponses(questions, requestUser, quiz))
+                .questions(learnerView ? null : buildQuestionResponses(snapshot.getQuestions(), requestUser, quiz))
                 .hasSubmitted(checkSubmissionStatus(quiz, requestUser))
                 .build();
+
+        // 학습자용 문제 목록은 스냅샷당 한 번 직렬화한 결과를 재사용하고, ETag는 사용자별 필드 해시 + 문제 내용 해시
+        // 내용 해시는 재기동/인스턴스와 무관하게 같은 문제면 같은 값
+        String contentHash = snapshot.getContentHash();
+        if (learnerView && quiz.isActive()) {
+            LearnerQuestionPayload payload = getLearnerPayload(snapshot);
+            response.setSerializedQuestions(payload.getJson());
+            contentHash = payload.getContentHash();
+        }
+        response.setEtag("\"" + userFieldsHash(quiz, response, learnerView) + "-" + contentHash + "\"");
+        return response;
+    }
+
+    /**
+     * 학습자용 문제 직렬화 결과 (스냅샷에 보관되어 문제가 바뀌기 전까지 재사용)
+     */
+    public LearnerQuestionPayload getLearnerPayload(QuizQuestionSnapshot snapshot) {
+        return snapshot.getLearnerPayload(this::renderLearnerPayload);
     }
 
     public QuizResultResponse generateQuizResult(Quiz quiz, User student,
-                                                 List<QuizQuestion> questions,
+                                                 QuizAnswerKey answerKey,
                                                  List<QuizAnswerRecord> responses) {
 
+        int totalQuestions = answerKey.getQuestionCount();
         int correctAnswers = (int) responses.stream().mapToLong(r -> r.getIsCorrect() ? 1 : 0).sum();
-        int earnedPoints = calculateEarnedPoints(questions, responses);
-        double percentage = questions.size() > 0 ? (double) correctAnswers / questions.size() * 100 : 0;
+        int earnedPoints = calculateEarnedPoints(answerKey, responses);
+        double percentage = totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0;
 
         LocalDateTime submittedAt = responses.stream()
                 .map(QuizAnswerRecord::getAnsweredAt)
@@ -101,27 +150,27 @@ public class QuizResponseService {
                 .studentId(student.getUserId())
                 .studentName(student.getName())
                 .quizTitle(quiz.getTitle())
-                .totalQuestions(questions.size())
+                .totalQuestions(totalQuestions)
                 .correctAnswers(correctAnswers)
-                .totalPoints(questions.stream().mapToInt(QuizQuestion::getPoints).sum())
+                .totalPoints(answerKey.getTotalPoints())
                 .earnedPoints(earnedPoints)
                 .percentage(percentage)
                 .submittedAt(submittedAt)
-                .answerResults(buildAnswerResults(questions, responses))
+                .answerResults(buildAnswerResults(answerKey, responses))
                 .build();
     }
 
     public QuizResultResponse generateDropoutResult(Quiz quiz, User student,
-                                                    List<QuizQuestion> questions,
+                                                    QuizAnswerKey answerKey,
                                                     QuizSession session) {
-        List<QuizResultResponse.AnswerResultResponse> answerResults = questions.stream()
-                .map(question -> QuizResultResponse.AnswerResultResponse.builder()
-                        .questionId(question.getQuestionId())
-                        .questionText(question.getQuestionText())
+        List<QuizResultResponse.AnswerResultResponse> answerResults = answerKey.getEntries().stream()
+                .map(entry -> QuizResultResponse.AnswerResultResponse.builder()
+                        .questionId(entry.getQuestionId())
+                        .questionText(entry.getQuestionText())
                         .studentAnswer("")
-                        .correctAnswer(question.getCorrectAnswer())
+                        .correctAnswer(entry.getCorrectAnswer())
                         .isCorrect(false)
-                        .points(question.getPoints())
+                        .points(entry.getPoints())
                         .answeredAt(session.getCreatedAt())
                         .build())
                 .collect(Collectors.toList());
@@ -131,9 +180,9 @@ public class QuizResponseService {
                 .quizTitle(quiz.getTitle())
                 .studentId(student.getUserId())
                 .studentName(student.getName())
-                .totalQuestions(questions.size())
+                .totalQuestions(answerKey.getQuestionCount())
                 .correctAnswers(0)
-                .totalPoints(questions.stream().mapToInt(QuizQuestion::getPoints).sum())
+                .totalPoints(answerKey.getTotalPoints())
                 .earnedPoints(0)
                 .percentage(0.0)
                 .submittedAt(session.getCreatedAt())
@@ -142,54 +191,53 @@ public class QuizResponseService {
     }
 
     public QuizResultSummaryResponse generateQuizResultSummary(Quiz quiz,
-                                                               List<QuizQuestion> questions,
-                                                               List<QuizAnswerRecord> allResponses) {
-        Map<Long, List<QuizAnswerRecord>> responsesByStudent = allResponses.stream()
-                .collect(Collectors.groupingBy(QuizAnswerRecord::getStudentId));
+                                                               QuizAnswerKey answerKey,
+                                                               QuizResultAggregate.Snapshot results) {
+        List<Long> studentIds = results.getStudents().stream()
+                .map(QuizResultAggregate.StudentTotal::getStudentId)
+                .collect(Collectors.toList());
+        Map<Long, User> students = userRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
 
+        int totalQuestions = answerKey.getQuestionCount();
         List<QuizResultSummaryResponse.ParticipantResult> participantResults = new ArrayList<>();
         double totalScore = 0;
 
-        for (Map.Entry<Long, List<QuizAnswerRecord>> entry : responsesByStudent.entrySet()) {
-            Long studentId = entry.getKey();
-            List<QuizAnswerRecord> studentResponses = entry.getValue();
-
-            User student = userRepository.findById(studentId).orElse(null);
+        for (QuizResultAggregate.StudentTotal total : results.getStudents()) {
+            User student = students.get(total.getStudentId());
             if (student == null) continue;
 
-            int earnedPoints = calculateEarnedPoints(questions, studentResponses);
-            int correctAnswers = (int) studentResponses.stream().mapToLong(r -> r.getIsCorrect() ? 1 : 0).sum();
-
-            LocalDateTime submittedAt = studentResponses.stream()
-                    .map(QuizAnswerRecord::getAnsweredAt)
-                    .max(LocalDateTime::compareTo)
-                    .orElse(LocalDateTime.now());
+            int correctAnswers = total.getCorrectAnswers();
 
             participantResults.add(QuizResultSummaryResponse.ParticipantResult.builder()
-                    .userId(studentId)
+                    .userId(total.getStudentId())
                     .studentName(student.getName())
-                    .score(earnedPoints)
+                    .score(total.getScore())
                     .correctAnswers(correctAnswers)
-                    .totalQuestions(questions.size())
-                    .percentage(questions.size() > 0 ? (double) correctAnswers / questions.size() * 100 : 0)
-                    .submittedAt(submittedAt)
+                    .totalQuestions(totalQuestions)
+                    .percentage(totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0)
+                    .submittedAt(total.getSubmittedAt())
                     .build());
 
-            totalScore += earnedPoints;
+            totalScore += total.getScore();
         }
 
-        int maxPossibleScore = questions.stream().mapToInt(QuizQuestion::getPoints).sum();
+        participantResults.sort(Comparator.comparing(QuizResultSummaryResponse.ParticipantResult::getSubmittedAt,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int maxPossibleScore = answerKey.getTotalPoints();
         double averageScore = participantResults.size() > 0 ? totalScore / participantResults.size() : 0;
         double averagePercentage = maxPossibleScore > 0 ? (averageScore / maxPossibleScore) * 100 : 0;
 
         return QuizResultSummaryResponse.builder()
                 .quizId(quiz.getQuizId())
                 .quizTitle(quiz.getTitle())
-                .totalQuestions(questions.size())
+                .totalQuestions(totalQuestions)
                 .maxPossibleScore(maxPossibleScore)
                 .totalParticipants(participantResults.size())
                 .averageScore(averageScore)
                 .averagePercentage(averagePercentage)
+                .scoreDistribution(Arrays.stream(results.getDistribution()).boxed().collect(Collectors.toList()))
                 .participants(participantResults)
                 .build();
     }
@@ -201,13 +249,45 @@ public class QuizResponseService {
                 quiz.isActive() ? "ACTIVE" : "ENDED";
     }
 
+    private QuizResponse buildQuizResponse(Quiz quiz, User creator, int totalQuestions, int totalPoints,
+                                           int participantCount, boolean hasSubmitted) {
+        return QuizResponse.builder()
+                .quizId(quiz.getQuizId())
+                .classroomId(quiz.getClassroomId())
+                .creatorId(quiz.getCreatorId())
+                .creatorName(creator != null ? creator.getName() : "Unknown")
+                .title(quiz.getTitle())
+                .description(quiz.getDescription())
+                .startTime(quiz.getStartTime())
+                .endTime(quiz.getEndTime())
+                .timeLimitMinutes(quiz.getTimeLimitMinutes())
+                .createdAt(quiz.getCreatedAt())
+                .updatedAt(quiz.getUpdatedAt())
+                .totalQuestions(totalQuestions)
+                .totalPoints(totalPoints)
+                .participantCount(participantCount)
+                .status(getQuizStatus(quiz))
+                .hasSubmitted(hasSubmitted)
+                .build();
+    }
+
+    private Set<Long> findSubmittedQuizIds(List<Long> quizIds, User requestUser) {
+        Set<Long> submitted = new HashSet<>();
+        if (requestUser == null || requestUser.getUserType() != User.UserType.LEARNER) {
+            return submitted;
+        }
+
+        submitted.addAll(responseRepository.findSubmittedQuizIds(requestUser.getUserId(), quizIds));
+        submitted.addAll(quizSessionRepository.findQuizIdsWithSession(requestUser.getUserId(), quizIds));
+        return submitted;
+    }
+
     private boolean checkSubmissionStatus(Quiz quiz, User requestUser) {
         if (requestUser == null || requestUser.getUserType() != User.UserType.LEARNER) {
             return false;
         }
 
-        return responseRepository.existsByQuizIdAndStudentId(quiz.getQuizId(), requestUser.getUserId()) ||
-                quizSessionRepository.existsByQuizIdAndStudentId(quiz.getQuizId(), requestUser.getUserId());
+        return participationIndex.hasParticipated(quiz.getQuizId(), requestUser.getUserId());
     }
 
     private List<QuestionResponse> buildQuestionResponses(List<QuizQuestion> questions, User requestUser, Quiz quiz) {
@@ -249,40 +329,51 @@ public class QuizResponseService {
                 .build();
     }
 
-    private int calculateEarnedPoints(List<QuizQuestion> questions, List<QuizAnswerRecord> responses) {
+    private LearnerQuestionPayload renderLearnerPayload(List<QuizQuestion> questions) {
+        List<QuestionResponse> responses = questions.stream()
+                .map(this::convertToQuestionResponseWithoutAnswer)
+                .collect(Collectors.toList());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(responses);
+            return new LearnerQuestionPayload(new String(json, StandardCharsets.UTF_8), DigestUtils.md5DigestAsHex(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("문제 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * ETag의 문제 외 부분 - 퀴즈 수정 시각, 작성자 이름, 상태, 응시자 수, 제출 여부, 조회 관점
+     * 문제 목록을 제외한 응답의 모든 가변 필드를 포함해야 304가 같은 표현에만 돌아감
+     */
+    private String userFieldsHash(Quiz quiz, QuizDetailResponse response, boolean learnerView) {
+        String fields = quiz.getQuizId() + "|" + quiz.getUpdatedAt() + "|" + response.getCreatorName() + "|" +
+                response.getStatus() + "|" + response.getParticipantCount() + "|" +
+                response.getHasSubmitted() + "|" + (learnerView ? "L" : "E");
+        return DigestUtils.md5DigestAsHex(fields.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int calculateEarnedPoints(QuizAnswerKey answerKey, List<QuizAnswerRecord> responses) {
         return responses.stream()
-                .mapToInt(response -> {
-                    if (response.getIsCorrect()) {
-                        return questions.stream()
-                                .filter(q -> q.getQuestionId().equals(response.getQuestionId()))
-                                .findFirst()
-                                .map(QuizQuestion::getPoints)
-                                .orElse(0);
-                    }
-                    return 0;
-                })
+                .mapToInt(response -> answerKey.pointsFor(response.getQuestionId(), response.getIsCorrect()))
                 .sum();
     }
 
     private List<QuizResultResponse.AnswerResultResponse> buildAnswerResults(
-            List<QuizQuestion> questions, List<QuizAnswerRecord> responses) {
+            QuizAnswerKey answerKey, List<QuizAnswerRecord> responses) {
         return responses.stream()
                 .map(response -> {
-                    QuizQuestion question = questions.stream()
-                            .filter(q -> q.getQuestionId().equals(response.getQuestionId()))
-                            .findFirst()
-                            .orElse(null);
+                    QuizAnswerKey.Entry entry = answerKey.getEntry(response.getQuestionId());
 
                     return QuizResultResponse.AnswerResultResponse.builder()
                             .questionId(response.getQuestionId())
-                            .questionText(question != null ? question.getQuestionText() : "Unknown")
+                            .questionText(entry != null ? entry.getQuestionText() : "Unknown")
                             .studentAnswer(response.getAnswer())
-                            .correctAnswer(question != null ? question.getCorrectAnswer() : "Unknown")
+                            .correctAnswer(entry != null ? entry.getCorrectAnswer() : "Unknown")
                             .isCorrect(response.getIsCorrect())
-                            .points(question != null ? question.getPoints() : 0)
+                            .points(entry != null ? entry.getPoints() : 0)
                             .answeredAt(response.getAnsweredAt())
                             .build();
                 })
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
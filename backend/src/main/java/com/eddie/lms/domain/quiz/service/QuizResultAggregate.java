@@ -0,0 +1,156 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizLiveDistributionResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈별 결과 집계 (메모리 상주, 제출 시 증분 갱신)
+ * 참여자 수, 점수 합계, 학생별 총점, 점수 분포(10% 구간)와 백분위 계산용 1% 구간 히스토그램을 유지
+ */
+public class QuizResultAggregate {
+
+    public static final int DISTRIBUTION_BUCKETS = 10;
+    private static final int PERCENT_BUCKETS = 101; // 득점률 0% ~ 100%
+
+    private final Long quizId;
+    private final int maxScore;
+    private final Map<Long, StudentTotal> students = new HashMap<>();
+    private final int[] distribution = new int[DISTRIBUTION_BUCKETS];
+    private final int[] percentHistogram = new int[PERCENT_BUCKETS];
+    private long scoreSum;
+
+    public QuizResultAggregate(Long quizId, int maxScore) {
+        this.quizId = quizId;
+        this.maxScore = maxScore;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * 학생 결과 반영 (같은 학생이 다시 들어오면 이전 값을 대체)
+     */
+    public synchronized void record(StudentTotal total) {
+        StudentTotal previous = students.put(total.getStudentId(), total);
+        if (previous != null) {
+            scoreSum -= previous.getScore();
+            distribution[bucketOf(previous.getScore())]--;
+            percentHistogram[percentOf(previous.getScore())]--;
+        }
+        scoreSum += total.getScore();
+        distribution[bucketOf(total.getScore())]++;
+        percentHistogram[percentOf(total.getScore())]++;
+    }
+
+    public synchronized int getParticipantCount() {
+        return students.size();
+    }
+
+    /**
+     * 현재 집계 복사본
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(
+                students.size(),
+                scoreSum,
+                new ArrayList<>(students.values()),
+                distribution.clone()
+        );
+    }
+
+    /**
+     * 실시간 점수 분포 - 히스토그램 구간 수에 비례하는 비용으로 계산 (학생 수와 무관)
+     */
+    public synchronized QuizLiveDistributionResponse liveDistribution() {
+        int count = students.size();
+        double averageScore = count > 0 ? (double) scoreSum / count : 0;
+
+        return QuizLiveDistributionResponse.builder()
+                .quizId(quizId)
+                .participantCount(count)
+                .maxScore(maxScore)
+                .averageScore(averageScore)
+                .averagePercentage(maxScore > 0 ? averageScore / maxScore * 100 : 0)
+                .scoreDistribution(Arrays.stream(distribution).boxed().collect(Collectors.toList()))
+                .minPercentage(percentile(0.0))
+                .p25Percentage(percentile(0.25))
+                .medianPercentage(percentile(0.5))
+                .p75Percentage(percentile(0.75))
+                .p90Percentage(percentile(0.9))
+                .maxPercentage(percentile(1.0))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 누적 인원이 q 비율에 처음 도달하는 1% 구간 (참여자가 없으면 null)
+     */
+    private Double percentile(double q) {
+        int count = students.size();
+        if (count == 0) {
+            return null;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long cumulative = 0;
+        for (int percent = 0; percent < PERCENT_BUCKETS; percent++) {
+            cumulative += percentHistogram[percent];
+            if (cumulative >= rank) {
+                return (double) percent;
+            }
+        }
+        return 100.0;
+    }
+
+    private int percentOf(int score) {
+        if (maxScore <= 0 || score <= 0) {
+            return 0;
+        }
+        return Math.min(PERCENT_BUCKETS - 1, (int) ((long) score * 100 / maxScore));
+    }
+
+    private int bucketOf(int score) {
+        if (maxScore <= 0 || score <= 0) {
+            return 0;
+        }
+        return Math.min(DISTRIBUTION_BUCKETS - 1, (int) ((long) score * DISTRIBUTION_BUCKETS / maxScore));
+    }
+
+    /**
+     * 학생별 총점
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StudentTotal {
+        private final Long studentId;
+        private final int score;
+        private final int correctAnswers;
+        private final LocalDateTime submittedAt;
+    }
+
+    /**
+     * 집계 시점 복사본
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final int participantCount;
+        private final long scoreSum;
+        private final List<StudentTotal> students;
+        private final int[] distribution;
+    }
+}
@@ -0,0 +1,173 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizStudentResult;
+import com.eddie.lms.domain.quiz.repository.QuizStudentResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 퀴즈 결과 집계 서비스
+ * 학생별 결과 행(quiz_student_result)을 영속 저장소로 두고, 퀴즈별 집계는 메모리에서 증분 갱신
+ * 결과 행 도입 이전의 제출분은 기동 시 한 번 채우므로 조회 경로에서는 쓰기가 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizResultAggregateService {
+
+    private static final String INSERT_SUMMARY_SQL =
+            "INSERT INTO quiz_student_result (quiz_id, student_id, score, correct_answers, submitted_at) " +
+                    "SELECT qr.quiz_id, qr.student_id, " +
+                    "COALESCE(SUM(CASE WHEN qr.is_correct = true THEN q.points ELSE 0 END), 0), " +
+                    "SUM(CASE WHEN qr.is_correct = true THEN 1 ELSE 0 END), " +
+                    "MAX(qr.answered_at) " +
+                    "FROM quiz_response qr LEFT JOIN quiz_question q ON q.question_id = qr.question_id ";
+    private static final String BACKFILL_SQL = INSERT_SUMMARY_SQL +
+            "WHERE NOT EXISTS (SELECT 1 FROM quiz_student_result r " +
+            "WHERE r.quiz_id = qr.quiz_id AND r.student_id = qr.student_id) " +
+            "GROUP BY qr.quiz_id, qr.student_id";
+    private static final String REBUILD_SQL = INSERT_SUMMARY_SQL +
+            "WHERE qr.quiz_id = ? GROUP BY qr.quiz_id, qr.student_id " +
+            "ON CONFLICT (quiz_id, student_id) DO UPDATE SET score = EXCLUDED.score, " +
+            "correct_answers = EXCLUDED.correct_answers, submitted_at = EXCLUDED.submitted_at";
+    private static final String PRUNE_SQL =
+            "DELETE FROM quiz_student_result r WHERE r.quiz_id = ? AND NOT EXISTS " +
+                    "(SELECT 1 FROM quiz_response qr WHERE qr.quiz_id = r.quiz_id AND qr.student_id = r.student_id)";
+
+    private final QuizStudentResultRepository studentResultRepository;
+    private final QuizLiveEventPublisher liveEventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, QuizResultAggregate> aggregates = new ConcurrentHashMap<>();
+    private final PendingLoads<Long> pendingLoads = new PendingLoads<>();
+
+    /**
+     * 기동 시 결과 행이 없는 기존 제출분을 답안 기록에서 채움
+     * 제출은 답안과 결과 행을 같은 트랜잭션에 저장하므로 커밋되지 않은 제출과 겹치지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int inserted = jdbcTemplate.update(BACKFILL_SQL);
+            if (inserted > 0) {
+                log.info("Backfilled {} quiz student results", inserted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to backfill quiz student results: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 퀴즈 집계 조회 (메모리에 없으면 학생별 결과 행으로 재구성, 읽기 전용)
+     */
+    public QuizResultAggregate getAggregate(QuizAnswerKey answerKey) {
+        Long quizId = answerKey.getQuizId();
+        QuizResultAggregate cached = aggregates.get(quizId);
+        if (cached != null && cached.getMaxScore() == answerKey.getTotalPoints()) {
+            return cached;
+        }
+
+        long loadedAt = pendingLoads.start(quizId);
+        QuizResultAggregate aggregate = null;
+        try {
+            QuizResultAggregate built = new QuizResultAggregate(quizId, answerKey.getTotalPoints());
+            studentResultRepository.findByQuizId(quizId).forEach(row -> built.record(toTotal(row)));
+            aggregate = built;
+        } finally {
+            QuizResultAggregate loaded = aggregate;
+            // 조회 도중 반영되지 못한 제출/폐기가 있었다면 캐시하지 않고 다음 조회에서 다시 구성
+            aggregates.compute(quizId, (id, existing) ->
+                    pendingLoads.finish(id, loadedAt) && loaded != null ? loaded : existing);
+        }
+        return aggregate;
+    }
+
+    /**
+     * 제출 결과 기록 - 결과 행은 현재 트랜잭션에 저장하고, 메모리 집계는 커밋 후 반영
+     */
+    @Transactional
+    public void recordSubmission(Long quizId, Long studentId, int score, int correctAnswers, LocalDateTime submittedAt) {
+        QuizStudentResult row = studentResultRepository.save(QuizStudentResult.builder()
+                .quizId(quizId)
+                .studentId(studentId)
+                .score(score)
+                .correctAnswers(correctAnswers)
+                .submittedAt(submittedAt)
+                .build());
+
+        QuizResultAggregate.StudentTotal total = toTotal(row);
+        afterCommit(() -> {
+            QuizResultAggregate updated = aggregates.compute(quizId, (id, aggregate) -> {
+                if (aggregate != null) {
+                    aggregate.record(total);
+                } else {
+                    pendingLoads.invalidate(id);
+                }
+                return aggregate;
+            });
+            liveEventPublisher.submissionRecorded(quizId, studentId, updated);
+        });
+    }
+
+    /**
+     * 답안/정답표 기준으로 학생별 결과 행을 다시 계산 (문제 교체, 재채점 이후)
+     * 행을 지우고 다시 넣지 않고 제자리에서 갱신하므로 동시에 커밋되는 제출의 결과 행과 유니크 제약이 충돌하지 않음
+     */
+    @Transactional
+    public void rebuild(Long quizId) {
+        int pruned = jdbcTemplate.update(PRUNE_SQL, quizId);
+        int rebuilt = jdbcTemplate.update(REBUILD_SQL, quizId);
+        evict(quizId);
+        afterCommit(() -> evict(quizId));
+        log.info("Rebuilt result aggregate for quiz: {} ({} participants, {} removed)", quizId, rebuilt, pruned);
+    }
+
+    /**
+     * 퀴즈 삭제 시 결과 행과 집계 제거
+     */
+    @Transactional
+    public void remove(Long quizId) {
+        studentResultRepository.deleteByQuizId(quizId);
+        evict(quizId);
+        afterCommit(() -> evict(quizId));
+    }
+
+    // === Private Helper Methods ===
+
+    private QuizResultAggregate.StudentTotal toTotal(QuizStudentResult row) {
+        return new QuizResultAggregate.StudentTotal(
+                row.getStudentId(), row.getScore(), row.getCorrectAnswers(), row.getSubmittedAt());
+    }
+
+    private void evict(Long quizId) {
+        aggregates.compute(quizId, (id, aggregate) -> {
+            pendingLoads.invalidate(id);
+            return null;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * 퀴즈 결과 CSV 내보내기 서비스
+ * 답안 행을 학생 순 커서로 읽으며 학생 한 명분이 모일 때마다 한 줄씩 출력
+ * 메모리에는 현재 학생의 답안만 유지하므로 참여자 수와 무관하게 사용량이 일정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizResultExportService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final char UTF8_BOM = '\uFEFF'; // 엑셀에서 한글이 깨지지 않도록
+
+    private final QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
+    private final QuizQuestionCache questionCache;
+
+    /**
+     * 학생별 점수와 문항별 답안/정답 여부를 CSV로 출력
+     * 커서 조회가 트랜잭션 안에서만 동작하므로 응답 스트림에 쓰는 동안 읽기 전용 트랜잭션 유지
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(Quiz quiz, OutputStream outputStream) throws IOException {
+        QuizAnswerKey answerKey = questionCache.getAnswerKey(quiz.getQuizId());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        writer.write(UTF8_BOM);
+        writeHeader(writer, answerKey);
+
+        CsvRowWriter rowWriter = new CsvRowWriter(writer, answerKey);
+        try {
+            answerRecordJdbcRepository.streamWithStudentsByStudent(quiz.getQuizId(), rowWriter);
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 중단한 경우
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Exported results of quiz: {} ({} students)", quiz.getQuizId(), rowWriter.students);
+    }
+
+    public String fileNameOf(Quiz quiz) {
+        return "quiz-" + quiz.getQuizId() + "-results.csv";
+    }
+
+    // === Private Helper Methods ===
+
+    private void writeHeader(Writer writer, QuizAnswerKey answerKey) throws IOException {
+        StringBuilder header = new StringBuilder("학생 ID,이름,이메일,점수,만점,정답 수,제출 시각");
+        for (QuizAnswerKey.Entry entry : answerKey.getEntries()) {
+            int number = entry.getOrdinal() + 1;
+            header.append(",Q").append(number).append(" 답안")
+                    .append(",Q").append(number).append(" 정답 여부");
+        }
+        writer.write(header.append("\r\n").toString());
+    }
+
+    /**
+     * CSV 필드 이스케이프 - 구분자/따옴표/개행 포함 시 따옴표로 감싸고,
+     * 수식으로 해석될 수 있는 값은 앞에 작은따옴표를 붙임
+     */
+    private static void appendField(StringBuilder line, String value) {
+        line.append(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+            line.append('"').append(safe.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(safe);
+        }
+    }
+
+    /**
+     * 현재 학생의 답안만 문항 순번 배열에 모았다가 학생이 바뀌면 출력
+     */
+    private static final class CsvRowWriter implements RowCallbackHandler {
+
+        private final Writer writer;
+        private final QuizAnswerKey answerKey;
+        private final String[] answers;
+        private final boolean[] correct;
+        private final StringBuilder line = new StringBuilder(256);
+
+        private boolean hasStudent;
+        private long studentId;
+        private String name;
+        private String email;
+        private int score;
+        private int correctCount;
+        private Timestamp submittedAt;
+        private int students;
+
+        private CsvRowWriter(Writer writer, QuizAnswerKey answerKey) {
+            this.writer = writer;
+            this.answerKey = answerKey;
+            this.answers = new String[answerKey.getQuestionCount()];
+            this.correct = new boolean[answerKey.getQuestionCount()];
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowStudentId = rs.getLong(1);
+            if (!hasStudent || rowStudentId != studentId) {
+                finish();
+                startStudent(rowStudentId, rs.getString(2), rs.getString(3));
+            }
+
+            Timestamp answeredAt = rs.getTimestamp(7);
+            if (answeredAt != null && (submittedAt == null || answeredAt.after(submittedAt))) {
+                submittedAt = answeredAt;
+            }
+
+            QuizAnswerKey.Entry entry = answerKey.getEntry(rs.getLong(4));
+            if (entry == null) {
+                return;
+            }
+            int ordinal = entry.getOrdinal();
+            answers[ordinal] = rs.getString(5);
+            correct[ordinal] = rs.getBoolean(6);
+            if (correct[ordinal]) {
+                score += entry.getPoints();
+                correctCount++;
+            }
+        }
+
+        private void startStudent(long id, String studentName, String studentEmail) {
+            hasStudent = true;
+            studentId = id;
+            name = studentName;
+            email = studentEmail;
+            score = 0;
+            correctCount = 0;
+            submittedAt = null;
+            Arrays.fill(answers, null);
+            Arrays.fill(correct, false);
+        }
+
+        /**
+         * 모아 둔 학생 한 명분을 출력
+         */
+        private void finish() {
+            if (!hasStudent) {
+                return;
+            }
+
+            line.setLength(0);
+            line.append(studentId);
+            appendField(line, name);
+            appendField(line, email);
+            line.append(',').append(score).append(',').append(answerKey.getTotalPoints()).append(',').append(correctCount);
+            appendField(line, submittedAt != null ? submittedAt.toLocalDateTime().format(TIME_FORMAT) : null);
+            for (int ordinal = 0; ordinal < answers.length; ordinal++) {
+                appendField(line, answers[ordinal]);
+                line.append(',');
+                if (answers[ordinal] != null) {
+                    line.append(correct[ordinal] ? 'O' : 'X');
+                }
+            }
+            line.append("\r\n");
+
+            try {
+                writer.write(line.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            hasStudent = false;
+            students++;
+        }
+    }
+}
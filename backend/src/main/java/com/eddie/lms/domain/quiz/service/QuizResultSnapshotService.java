@@ -0,0 +1,123 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizResultResponse;
+import com.eddie.lms.domain.quiz.repository.QuizResultSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 학생별 퀴즈 결과 스냅샷 서비스
+ * 제출 시 계산한 결과를 JSON으로 저장해 두고 결과 조회 시 그대로 반환 (답안/문제 재조회 및 재채점 없음)
+ * 같은 트랜잭션에서 저장한 스냅샷은 커밋 직전에 한 번의 배치 INSERT로 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizResultSnapshotService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO quiz_result_snapshot (quiz_id, student_id, result, created_at) VALUES (?, ?, ?, ?)";
+
+    private final QuizResultSnapshotRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결과 스냅샷 저장 (트랜잭션 중이면 커밋 직전에 모아서 저장)
+     */
+    public void store(QuizResultResponse result) {
+        Object[] row = toRow(result);
+        if (row == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insertIfAbsent(row);
+            return;
+        }
+
+        PendingSnapshots pending = (PendingSnapshots) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingSnapshots();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.rows.add(row);
+    }
+
+    /**
+     * 저장된 결과 조회 (없거나 읽을 수 없으면 empty)
+     */
+    public Optional<QuizResultResponse> find(Long quizId, Long studentId) {
+        return snapshotRepository.findByQuizIdAndStudentId(quizId, studentId)
+                .flatMap(snapshot -> {
+                    try {
+                        return Optional.of(objectMapper.readValue(snapshot.getResult(), QuizResultResponse.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("Unreadable result snapshot for quiz: {}, student: {}", quizId, studentId);
+                        return Optional.empty();
+                    }
+                });
+    }
+
+    /**
+     * 퀴즈의 스냅샷 전체 삭제 (재채점, 문제 교체, 퀴즈 삭제 시)
+     */
+    public void invalidate(Long quizId) {
+        int deleted = snapshotRepository.deleteByQuizId(quizId);
+        log.debug("Invalidated {} result snapshots for quiz: {}", deleted, quizId);
+    }
+
+    // === Private Helper Methods ===
+
+    private Object[] toRow(QuizResultResponse result) {
+        try {
+            return new Object[]{result.getQuizId(), result.getStudentId(),
+                    objectMapper.writeValueAsString(result), Timestamp.valueOf(LocalDateTime.now())};
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize quiz result for quiz: {}, student: {}",
+                    result.getQuizId(), result.getStudentId(), e);
+            return null;
+        }
+    }
+
+    private void insertIfAbsent(Object[] row) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, row);
+        } catch (DuplicateKeyException e) {
+            // 동시에 다른 요청이 먼저 저장한 경우
+        }
+    }
+
+    /**
+     * 트랜잭션별 저장 대기 스냅샷
+     */
+    private final class PendingSnapshots implements TransactionSynchronization {
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(QuizResultSnapshotService.this);
+        }
+    }
+}
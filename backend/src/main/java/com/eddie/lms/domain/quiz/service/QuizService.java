@@ -2,6 +2,7 @@ package com.eddie.lms.domain.quiz.service;
 
 
 import com.eddie.lms.domain.quiz.dto.request.QuizCreateRequest;
+import com.eddie.lms.domain.quiz.dto.request.QuizRegradeRequest;
 import com.eddie.lms.domain.quiz.dto.request.QuizSubmitRequest;
 import com.eddie.lms.domain.quiz.dto.request.QuizUpdateRequest;
 import com.eddie.lms.domain.quiz.dto.response.*;
@@ -13,15 +14,17 @@ import com.eddie.lms.domain.quiz.exception.DuplicateSubmissionException;
 import com.eddie.lms.domain.quiz.exception.QuizEndedException;
 import com.eddie.lms.domain.quiz.exception.QuizNotStartedException;
 import com.eddie.lms.domain.quiz.exception.QuizTimeExceededException;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
 import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordRepository;
 import com.eddie.lms.domain.quiz.repository.QuizQuestionRepository;
 import com.eddie.lms.domain.quiz.repository.QuizRepository;
 import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
 import com.eddie.lms.domain.user.entity.User;
-import com.eddie.lms.domain.user.repository.UserRepository;
+import com.eddie.lms.domain.user.service.UserLookupCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -29,9 +32,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -45,9 +51,19 @@ public class QuizService {
     private final QuizRepository quizRepository;
     private final QuizQuestionRepository questionRepository;
     private final QuizAnswerRecordRepository responseRepository;
+    private final QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
     private final QuizSessionRepository quizSessionRepository;
-    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
     private final QuizResponseService responseService;
+    private final QuizQuestionCache questionCache;
+    private final QuizResultAggregateService resultAggregateService;
+    private final QuizSessionExpiryService sessionExpiryService;
+    private final QuizDraftService draftService;
+    private final QuizRegradeService regradeService;
+    private final QuizItemAnalysisService itemAnalysisService;
+    private final QuizParticipationIndex participationIndex;
+    private final QuizResultSnapshotService resultSnapshotService;
+    private final QuizCollusionService collusionService;
 
     @Transactional
     public QuizResponse createQuiz(Long classroomId, QuizCreateRequest request, Long creatorId) {
@@ -78,12 +94,8 @@ public class QuizService {
     public List<QuizResponse> getQuizzes(Long classroomId, Long userId) {
         User user = validateUserExists(userId);
 
-        return quizRepository.findByClassroomIdOrderByCreatedAtDesc(classroomId).stream()
-                .map(quiz -> {
-                    User creator = userRepository.findById(quiz.getCreatorId()).orElse(null);
-                    return responseService.convertToQuizResponse(quiz, creator, user);
-                })
-                .collect(Collectors.toList());
+        List<Quiz> quizzes = quizRepository.findByClassroomIdOrderByCreatedAtDesc(classroomId);
+        return responseService.convertToQuizResponses(quizzes, user);
     }
 
     public QuizDetailResponse getQuizDetail(Long classroomId, Long quizId, Long userId) {
@@ -107,10 +119,14 @@ public class QuizService {
         quiz.setTimeLimitMinutes(request.getTimeLimitMinutes());
 
         Quiz updatedQuiz = quizRepository.save(quiz);
+        sessionExpiryService.quizScheduleChanged(updatedQuiz);
 
         if (request.getQuestions() != null) {
             questionRepository.deleteByQuizId(quizId);
+            questionCache.invalidate(quizId);
             createQuizQuestions(quizId, request.getQuestions());
+            resultAggregateService.rebuild(quizId);
+            resultSnapshotService.invalidate(quizId);
         }
 
         User creator = validateUserExists(creatorId);
@@ -124,40 +140,153 @@ public class QuizService {
 
         responseRepository.deleteAll(responseRepository.findByQuizId(quizId));
         questionRepository.deleteByQuizId(quizId);
+        questionCache.invalidate(quizId);
         quizRepository.delete(quiz);
+        resultAggregateService.remove(quizId);
+        itemAnalysisService.invalidate(quizId);
+        participationIndex.invalidate(quizId);
+        resultSnapshotService.invalidate(quizId);
+        collusionService.remove(quizId);
+    }
+
+    /**
+     * 정답/배점 변경 후 재채점 (교육자만 가능)
+     * 문제는 제자리에서 수정하여 기존 답안의 문제 ID를 유지하고, 답안 재채점은 커밋 후 비동기로 진행
+     */
+    @Transactional
+    public QuizRegradeJobResponse regradeQuiz(Long classroomId, Long quizId, QuizRegradeRequest request, Long creatorId) {
+        validateEducator(creatorId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, creatorId);
+
+        if (request.getQuestions() == null || request.getQuestions().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "재채점할 문제를 지정해주세요.");
+        }
+
+        Map<Long, QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quizId).stream()
+                .collect(Collectors.toMap(QuizQuestion::getQuestionId, question -> question));
+        List<QuizQuestion> updated = new ArrayList<>();
+        for (QuizRegradeRequest.QuestionKeyUpdate update : request.getQuestions()) {
+            QuizQuestion question = questions.get(update.getQuestionId());
+            if (question == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "퀴즈에 속하지 않은 문제입니다: " + update.getQuestionId());
+            }
+            if (update.getCorrectAnswer() != null) {
+                question.setCorrectAnswer(update.getCorrectAnswer());
+            }
+            if (update.getPoints() != null) {
+                question.setPoints(update.getPoints());
+            }
+            updated.add(question);
+        }
+
+        questionRepository.saveAll(updated);
+        questionCache.invalidate(quizId);
+
+        List<Long> questionIds = updated.stream().map(QuizQuestion::getQuestionId).distinct().collect(Collectors.toList());
+        log.info("Regrade requested for quiz: {} ({} questions)", quizId, questionIds.size());
+        return regradeService.startRegrade(quizId, questionIds);
+    }
+
+    /**
+     * 재채점 진행 상황 조회 (교육자 본인 퀴즈만)
+     */
+    public QuizRegradeJobResponse getRegradeJob(Long classroomId, Long quizId, String jobId, Long requestUserId) {
+        validateEducator(requestUserId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, requestUserId);
+
+        return regradeService.getJob(quizId, jobId);
     }
 
     @Transactional
     public QuizResultResponse submitQuiz(Long classroomId, Long quizId, QuizSubmitRequest request, Long studentId) {
+        LocalDateTime submittedAt = LocalDateTime.now();
         Quiz quiz = validateQuizExists(quizId, classroomId);
         User student = validateLearner(studentId);
 
         validateNotAlreadySubmitted(quizId, studentId);
-        validateQuizSubmissionTiming(quiz, studentId);
+        validateQuizSubmissionTiming(quiz, studentId, submittedAt);
+
+        QuizAnswerKey answerKey = questionCache.getAnswerKey(quizId);
+        List<QuizAnswerRecord> responses = processAnswers(quiz, student, answerKey,
+                resolveSubmittedAnswers(quizId, studentId, request), submittedAt);
+
+        saveAnswerRecords(responses);
+        return completeSubmission(quiz, student, answerKey, responses);
+    }
 
-        List<QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quizId);
-        List<QuizAnswerRecord> responses = processAnswers(quiz, student, questions, request.getAnswers());
+    /**
+     * 제출 답안 확정 - 세션 토큰이 있으면 임시 저장된 답안과 병합 (제출 답안 우선)
+     */
+    public List<QuizSubmitRequest.AnswerRequest> resolveSubmittedAnswers(Long quizId, Long studentId, QuizSubmitRequest request) {
+        return draftService.mergeWithDraft(request.getSessionToken(), quizId, studentId, request.getAnswers());
+    }
 
-        responseRepository.saveAll(responses);
-        return responseService.generateQuizResult(quiz, student, questions, responses);
+    /**
+     * 비동기 접수 전 검증 - 접수 시각 기준으로 제출 가능 여부 확인
+     */
+    public void validateSubmission(Long classroomId, Long quizId, Long studentId, LocalDateTime receivedAt) {
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateLearner(studentId);
+        validateNotAlreadySubmitted(quizId, studentId);
+        validateQuizSubmissionTiming(quiz, studentId, receivedAt);
+    }
+
+    /**
+     * 접수된 제출 일괄 채점/저장 (비동기 접수 워커용)
+     * 마감 검증은 처리 시각이 아닌 접수 시각 기준이며, 배치 전체의 답안을 한 번에 저장
+     */
+    @Transactional
+    public void processQueuedSubmissions(List<QuizQueuedSubmission> submissions) {
+        List<QuizAnswerRecord> allResponses = new ArrayList<>();
+        List<Runnable> completions = new ArrayList<>(submissions.size());
+
+        for (QuizQueuedSubmission submission : submissions) {
+            Quiz quiz = validateQuizExists(submission.getQuizId(), submission.getClassroomId());
+            User student = validateLearner(submission.getStudentId());
+
+            validateNotAlreadySubmitted(quiz.getQuizId(), student.getUserId());
+            validateQuizSubmissionTiming(quiz, student.getUserId(), submission.getReceivedAt());
+
+            QuizAnswerKey answerKey = questionCache.getAnswerKey(quiz.getQuizId());
+            List<QuizAnswerRecord> responses = processAnswers(quiz, student, answerKey,
+                    submission.getAnswers(), submission.getReceivedAt());
+
+            allResponses.addAll(responses);
+            completions.add(() -> completeSubmission(quiz, student, answerKey, responses));
+        }
+
+        saveAnswerRecords(allResponses);
+        completions.forEach(Runnable::run);
     }
 
     public QuizResultResponse getMyQuizResult(Long classroomId, Long quizId, Long studentId) {
         Quiz quiz = validateQuizExists(quizId, classroomId);
         User student = validateUserExists(studentId);
 
-        // 정상 완료 확인
+        // 제출 시 저장된 결과가 있으면 그대로 반환 (이름/제목은 현재 값으로)
+        Optional<QuizResultResponse> snapshot = resultSnapshotService.find(quizId, studentId);
+        if (snapshot.isPresent()) {
+            QuizResultResponse result = snapshot.get();
+            result.setStudentName(student.getName());
+            result.setQuizTitle(quiz.getTitle());
+            return result;
+        }
+
+        // 정상 완료 확인 (스냅샷이 없는 기존 제출분은 계산 후 저장)
         List<QuizAnswerRecord> responses = responseRepository.findByQuizIdAndStudentId(quizId, studentId);
         if (!responses.isEmpty()) {
-            List<QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quizId);
-            return responseService.generateQuizResult(quiz, student, questions, responses);
+            QuizResultResponse result = responseService.generateQuizResult(quiz, student, questionCache.getAnswerKey(quizId), responses);
+            resultSnapshotService.store(result);
+            return result;
         }
 
         // 이탈 확인
         Optional<QuizSession> session = quizSessionRepository.findByQuizIdAndStudentId(quizId, studentId);
         if (session.isPresent()) {
-            List<QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quizId);
-            return responseService.generateDropoutResult(quiz, student, questions, session.get());
+            return responseService.generateDropoutResult(quiz, student, questionCache.getAnswerKey(quizId), session.get());
         }
 
         return null;
@@ -168,10 +297,68 @@ public class QuizService {
         Quiz quiz = validateQuizExists(quizId, classroomId);
         validateQuizOwnership(quiz, requestUserId);
 
-        List<QuizQuestion> questions = questionRepository.findByQuizIdOrderByOrderIndex(quizId);
-        List<QuizAnswerRecord> allResponses = responseRepository.findByQuizId(quizId);
+        QuizAnswerKey answerKey = questionCache.getAnswerKey(quizId);
+        QuizResultAggregate.Snapshot results = resultAggregateService.getAggregate(answerKey).snapshot();
+
+        return responseService.generateQuizResultSummary(quiz, answerKey, results);
+    }
+
+    /**
+     * 실시간 점수 분포 조회 (교육자용) - 제출마다 증분 갱신되는 집계에서 바로 계산
+     */
+    public QuizLiveDistributionResponse getLiveResultDistribution(Long classroomId, Long quizId, Long requestUserId) {
+        validateEducator(requestUserId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, requestUserId);
 
-        return responseService.generateQuizResultSummary(quiz, questions, allResponses);
+        return resultAggregateService.getAggregate(questionCache.getAnswerKey(quizId)).liveDistribution();
+    }
+
+    /**
+     * 답안 유사도 분석 결과 조회 (교육자용)
+     */
+    public QuizCollusionReportResponse getCollusionReport(Long classroomId, Long quizId, Long requestUserId) {
+        validateEducator(requestUserId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, requestUserId);
+
+        return collusionService.getReport(quiz);
+    }
+
+    /**
+     * 답안 유사도 분석 요청 (교육자용) - 종료된 퀴즈만, 분석은 비동기로 진행
+     */
+    public QuizCollusionReportResponse requestCollusionAnalysis(Long classroomId, Long quizId, Long requestUserId) {
+        validateEducator(requestUserId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, requestUserId);
+
+        if (!quiz.isEnded()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료된 퀴즈만 분석할 수 있습니다.");
+        }
+        collusionService.enqueue(quizId);
+        return collusionService.getReport(quiz);
+    }
+
+    /**
+     * 결과 내보내기 대상 퀴즈 확인 (교육자 본인 퀴즈만)
+     */
+    public Quiz getQuizForResultExport(Long classroomId, Long quizId, Long requestUserId) {
+        validateEducator(requestUserId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, requestUserId);
+        return quiz;
+    }
+
+    /**
+     * 문항 분석 조회 (교육자용)
+     */
+    public QuizItemAnalysisResponse getItemAnalysis(Long classroomId, Long quizId, Long requestUserId) {
+        validateEducator(requestUserId);
+        Quiz quiz = validateQuizExists(quizId, classroomId);
+        validateQuizOwnership(quiz, requestUserId);
+
+        return itemAnalysisService.analyze(quiz);
     }
 
     public QuizStatusResponse getQuizStatus(Long classroomId, Long quizId, Long userId) {
@@ -180,8 +367,7 @@ public class QuizService {
 
         boolean hasSubmitted = false;
         if (user.getUserType() == User.UserType.LEARNER) {
-            hasSubmitted = responseRepository.existsByQuizIdAndStudentId(quizId, userId) ||
-                    quizSessionRepository.existsByQuizIdAndStudentId(quizId, userId);
+            hasSubmitted = participationIndex.hasParticipated(quizId, userId);
         }
 
         String status = quiz.isNotStarted() ? "NOT_STARTED" :
@@ -211,49 +397,60 @@ public class QuizService {
                 .collect(Collectors.toList());
 
         questionRepository.saveAll(questions);
+        questionCache.invalidate(quizId);
     }
 
     private List<QuizAnswerRecord> processAnswers(Quiz quiz, User student,
-                                                  List<QuizQuestion> questions,
-                                                  List<QuizSubmitRequest.AnswerRequest> answerRequests) {
+                                                  QuizAnswerKey answerKey,
+                                                  List<QuizSubmitRequest.AnswerRequest> answerRequests,
+                                                  LocalDateTime submittedAt) {
 
+        // 같은 문제에 대한 중복 답안은 첫 번째 것만 채점 (일괄 INSERT의 유니크 제약 위반 방지)
+        Set<Long> answeredQuestionIds = new HashSet<>();
         return answerRequests.stream()
                 .map(answer -> {
-                    QuizQuestion question = questions.stream()
-                            .filter(q -> q.getQuestionId().equals(answer.getQuestionId()))
-                            .findFirst()
-                            .orElse(null);
-
-                    if (question == null) return null;
+                    QuizAnswerKey.Entry entry = answerKey.getEntry(answer.getQuestionId());
 
-                    boolean isCorrect = checkAnswer(question, answer.getAnswer());
+                    if (entry == null) return null;
 
                     return QuizAnswerRecord.builder()
                             .quizId(quiz.getQuizId())
                             .studentId(student.getUserId())
                             .questionId(answer.getQuestionId())
                             .answer(answer.getAnswer())
-                            .isCorrect(isCorrect)
+                            .isCorrect(entry.grade(answer.getAnswer()))
+                            .answeredAt(submittedAt)
                             .build();
                 })
-                .filter(response -> response != null)
+                .filter(response -> response != null && answeredQuestionIds.add(response.getQuestionId()))
                 .collect(Collectors.toList());
     }
 
-    private boolean checkAnswer(QuizQuestion question, String studentAnswer) {
-        if (question.getQuestionType() == QuizQuestion.QuestionType.MULTIPLE_CHOICE) {
-            return question.getCorrectAnswer().trim().equalsIgnoreCase(studentAnswer.trim());
-        } else {
-            String correct = question.getCorrectAnswer().toLowerCase().trim();
-            String student = studentAnswer.toLowerCase().trim();
-            return correct.equals(student) || student.contains(correct) || correct.contains(student);
+    private void saveAnswerRecords(List<QuizAnswerRecord> responses) {
+        try {
+            answerRecordJdbcRepository.insertAll(responses);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateSubmissionException("이미 이 퀴즈에 답안을 제출하셨습니다.", e);
         }
     }
 
+    private QuizResultResponse completeSubmission(Quiz quiz, User student, QuizAnswerKey answerKey,
+                                                  List<QuizAnswerRecord> responses) {
+        QuizResultResponse result = responseService.generateQuizResult(quiz, student, answerKey, responses);
+
+        resultAggregateService.recordSubmission(quiz.getQuizId(), student.getUserId(),
+                result.getEarnedPoints(), result.getCorrectAnswers(), result.getSubmittedAt());
+        draftService.discard(quiz.getQuizId(), student.getUserId());
+        itemAnalysisService.invalidate(quiz.getQuizId());
+        participationIndex.markSubmitted(quiz.getQuizId(), student.getUserId());
+        resultSnapshotService.store(result);
+        return result;
+    }
+
     // === 검증 메서드들 ===
 
     private User validateUserExists(Long userId) {
-        return userRepository.findById(userId)
+        return userLookupCache.find(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
     }
 
@@ -290,7 +487,7 @@ public class QuizService {
     }
 
     private void validateNotAlreadySubmitted(Long quizId, Long studentId) {
-        if (responseRepository.existsByQuizIdAndStudentId(quizId, studentId)) {
+        if (participationIndex.hasSubmitted(quizId, studentId)) {
             throw new DuplicateSubmissionException("이미 이 퀴즈에 답안을 제출하셨습니다.");
         }
     }
@@ -305,8 +502,7 @@ public class QuizService {
         }
     }
 
-    private void validateQuizSubmissionTiming(Quiz quiz, Long studentId) {
-        LocalDateTime now = LocalDateTime.now();
+    private void validateQuizSubmissionTiming(Quiz quiz, Long studentId, LocalDateTime now) {
 
         if (now.isBefore(quiz.getStartTime())) {
             throw new QuizNotStartedException("퀴즈가 아직 시작되지 않았습니다.");
@@ -316,24 +512,10 @@ public class QuizService {
             throw new QuizEndedException("퀴즈가 이미 종료되었습니다.");
         }
 
-        // 제한 시간 검증
+        // 제한 시간 검증 - 세션 시작 시 계산된 학생별 마감 시각 기준
         if (quiz.getTimeLimitMinutes() != null && quiz.getTimeLimitMinutes() > 0) {
-            List<QuizAnswerRecord> existingResponses = responseRepository.findByQuizIdAndStudentId(quiz.getQuizId(), studentId);
-
-            LocalDateTime quizStartedAt;
-            if (!existingResponses.isEmpty()) {
-                quizStartedAt = existingResponses.stream()
-                        .map(QuizAnswerRecord::getAnsweredAt)
-                        .min(LocalDateTime::compareTo)
-                        .orElse(quiz.getStartTime());
-            } else {
-                quizStartedAt = quiz.getStartTime().isAfter(now.minusMinutes(quiz.getTimeLimitMinutes()))
-                        ? quiz.getStartTime()
-                        : now.minusMinutes(quiz.getTimeLimitMinutes());
-            }
-
-            long elapsedMinutes = ChronoUnit.MINUTES.between(quizStartedAt, now);
-            if (elapsedMinutes > quiz.getTimeLimitMinutes()) {
+            Optional<LocalDateTime> deadline = sessionExpiryService.findSubmissionDeadline(quiz, studentId);
+            if (deadline.isPresent() && now.isAfter(deadline.get())) {
                 throw new QuizTimeExceededException(
                         String.format("제한 시간 %d분을 초과했습니다.", quiz.getTimeLimitMinutes())
                 );
@@ -0,0 +1,180 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import com.eddie.lms.domain.quiz.repository.QuizRepository;
+import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 세션 만료 스케줄러
+ * 활성 세션마다 실제 마감 시각(시작 + 제한 시간, 퀴즈 종료 시각, 최대 3시간 중 가장 이른 시각)을
+ * 우선순위 큐에 넣고, 마감이 지난 세션만 한 번의 UPDATE로 만료 처리
+ * 누락분은 주기적인 정합성 점검(토큰만 조회)으로 보완
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizSessionExpiryService {
+
+    private static final long MAX_SESSION_HOURS = 3;
+
+    private final QuizSessionRegistry sessionRegistry;
+    private final QuizSessionRepository quizSessionRepository;
+    private final QuizRepository quizRepository;
+
+    @Value("${app.quiz.session-expiry.grace-seconds:60}")
+    private long graceSeconds;
+
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparing(Deadline::getExpiresAt));
+    private final Map<String, LocalDateTime> deadlines = new ConcurrentHashMap<>(); // 토큰 -> 제출 마감 시각
+    private final Map<String, LocalDateTime> studentDeadlines = new ConcurrentHashMap<>(); // 퀴즈:학생 -> 제출 마감 시각
+
+    /**
+     * 레지스트리 재구성 이후 활성 세션의 마감 시각 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void trackActiveSessions() {
+        List<QuizSession> active = sessionRegistry.activeSessions();
+        Set<Long> quizIds = active.stream().map(QuizSession::getQuizId).collect(Collectors.toSet());
+        Map<Long, Quiz> quizzes = quizRepository.findAllById(quizIds).stream()
+                .collect(Collectors.toMap(Quiz::getQuizId, Function.identity()));
+
+        active.forEach(session -> {
+            Quiz quiz = quizzes.get(session.getQuizId());
+            if (quiz != null) {
+                track(session, quiz);
+            }
+        });
+        log.info("Tracking deadlines for {} active quiz sessions", active.size());
+    }
+
+    /**
+     * 세션 마감 시각 등록
+     */
+    public void track(QuizSession session, Quiz quiz) {
+        LocalDateTime deadline = deadlineOf(session, quiz);
+        deadlines.put(session.getSessionToken(), deadline);
+        studentDeadlines.put(studentKey(session.getQuizId(), session.getStudentId()), deadline);
+        synchronized (queue) {
+            queue.add(new Deadline(session.getSessionToken(), session.getQuizId(), session.getStudentId(),
+                    deadline, deadline.plusSeconds(graceSeconds)));
+        }
+    }
+
+    /**
+     * 학생의 제출 허용 시각 (마감 + 유예 시간)
+     * 추적 중인 세션은 메모리에서 바로 반환하고, 없으면 세션 행에서 계산 (세션 없이 제출한 경우 empty)
+     */
+    public Optional<LocalDateTime> findSubmissionDeadline(Quiz quiz, Long studentId) {
+        LocalDateTime deadline = studentDeadlines.get(studentKey(quiz.getQuizId(), studentId));
+        if (deadline != null) {
+            return Optional.of(deadline.plusSeconds(graceSeconds));
+        }
+
+        return quizSessionRepository.findByQuizIdAndStudentId(quiz.getQuizId(), studentId)
+                .map(session -> session.getDeadlineAt() != null
+                        ? session.getDeadlineAt()
+                        : QuizSession.deadlineOf(session.getStartTime(), quiz.getTimeLimitMinutes(), quiz.getEndTime()))
+                .map(found -> found.plusSeconds(graceSeconds));
+    }
+
+    /**
+     * 퀴즈 시간 설정 변경 시 해당 퀴즈의 활성 세션 마감 시각 재계산
+     * (이전 큐 항목은 꺼낼 때 최신 마감 시각과 비교해 무시)
+     */
+    public void quizScheduleChanged(Quiz quiz) {
+        sessionRegistry.activeSessions().stream()
+                .filter(session -> session.getQuizId().equals(quiz.getQuizId()))
+                .forEach(session -> track(session, quiz));
+    }
+
+    /**
+     * 마감 + 유예 시간이 지난 세션 만료 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void expireDueSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> dueTokens = new ArrayList<>();
+
+        synchronized (queue) {
+            while (!queue.isEmpty() && !queue.peek().getExpiresAt().isAfter(now)) {
+                Deadline due = queue.poll();
+                if (due.getDeadline().equals(deadlines.get(due.getSessionToken()))) {
+                    dueTokens.add(due.getSessionToken());
+                    studentDeadlines.remove(studentKey(due.getQuizId(), due.getStudentId()), due.getDeadline());
+                }
+            }
+        }
+
+        if (dueTokens.isEmpty()) {
+            return;
+        }
+
+        dueTokens.forEach(deadlines::remove);
+        int expired = sessionRegistry.expire(dueTokens, now);
+        if (expired > 0) {
+            log.info("Expired {} quiz sessions at their deadline", expired);
+        }
+    }
+
+    /**
+     * 정합성 점검 (5분마다) - 추적에서 빠진 세션을 토큰만 조회하여 만료
+     */
+    @Scheduled(fixedRate = 300000)
+    public void reconcileExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> overdueTokens = quizSessionRepository.findOverdueSessionTokens(
+                now.minusHours(MAX_SESSION_HOURS), now.minusSeconds(graceSeconds));
+
+        if (!overdueTokens.isEmpty()) {
+            overdueTokens.forEach(deadlines::remove);
+            int expired = sessionRegistry.expire(overdueTokens, now);
+            log.info("Reconciliation expired {} quiz sessions", expired);
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private LocalDateTime deadlineOf(QuizSession session, Quiz quiz) {
+        LocalDateTime maxDeadline = session.getStartTime().plusHours(MAX_SESSION_HOURS);
+        LocalDateTime deadline = QuizSession.deadlineOf(session.getStartTime(), quiz.getTimeLimitMinutes(), quiz.getEndTime());
+        return deadline != null && deadline.isBefore(maxDeadline) ? deadline : maxDeadline;
+    }
+
+    private String studentKey(Long quizId, Long studentId) {
+        return quizId + ":" + studentId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Deadline {
+        private final String sessionToken;
+        private final Long quizId;
+        private final Long studentId;
+        private final LocalDateTime deadline;  // 제출 마감 시각
+        private final LocalDateTime expiresAt; // 마감 + 유예 시간
+    }
+}
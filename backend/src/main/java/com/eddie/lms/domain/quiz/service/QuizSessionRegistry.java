@@ -0,0 +1,280 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 활성 퀴즈 세션 레지스트리 (세션 토큰 -> 세션)
+ * 조회와 진행 상태 전이는 메모리에서 처리하고, 변경된 세션은 주기적으로 일괄 UPDATE (write-behind)
+ * 완료/강제 종료 같은 종료 전이는 호출 측 트랜잭션에서 바로 UPDATE하여 장애 시에도 유실되지 않음
+ * 저장 실패 시 다음 주기에 재시도하며, 종료 시 남은 변경분을 모두 반영
+ * 기동 시 STARTED/IN_PROGRESS 세션으로 재구성되고, 레지스트리에 없으면 DB에서 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizSessionRegistry {
+
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE quiz_session SET session_status = ?, end_time = ?, is_force_terminated = ?, " +
+                    "termination_reason = ?, updated_at = ? " +
+                    "WHERE session_token = ? AND session_status IN ('STARTED', 'IN_PROGRESS')";
+
+    private final QuizSessionRepository quizSessionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final QuizLiveEventPublisher liveEventPublisher;
+
+    private final Map<String, QuizSession> sessions = new ConcurrentHashMap<>();
+    private final Set<String> dirtyTokens = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 기동 시 진행 중인 세션으로 레지스트리 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void rebuild() {
+        List<QuizSession> active = quizSessionRepository.findBySessionStatusIn(
+                EnumSet.of(QuizSession.SessionStatus.STARTED, QuizSession.SessionStatus.IN_PROGRESS));
+        active.forEach(session -> sessions.putIfAbsent(session.getSessionToken(), session));
+        log.info("Quiz session registry rebuilt with {} active sessions", active.size());
+    }
+
+    /**
+     * 새로 저장된 세션 등록 (커밋 후 - 롤백된 세션이 레지스트리에 남지 않음)
+     */
+    public void register(QuizSession session) {
+        afterCommit(() -> {
+            sessions.put(session.getSessionToken(), session);
+            liveEventPublisher.sessionStatusChanged(session);
+        });
+    }
+
+    /**
+     * 토큰으로 세션 조회 (레지스트리 우선, 없으면 DB)
+     * 반환된 세션은 읽기 전용으로 사용하고 상태 변경은 transition으로만 수행
+     */
+    public Optional<QuizSession> find(String sessionToken) {
+        QuizSession session = sessions.get(sessionToken);
+        if (session != null) {
+            return Optional.of(session);
+        }
+
+        Optional<QuizSession> loaded = quizSessionRepository.findBySessionToken(sessionToken);
+        loaded.filter(QuizSession::isActive)
+                .ifPresent(active -> sessions.putIfAbsent(sessionToken, active));
+        return loaded.map(found -> sessions.getOrDefault(sessionToken, found));
+    }
+
+    /**
+     * 활성 세션의 상태 전이
+     * 진행 중 상태로의 전이는 메모리에 즉시 반영하고 저장은 다음 flush에서 수행
+     * 종료 상태로의 전이는 호출 측 트랜잭션에서 바로 저장하고, 커밋 후 레지스트리에서 제거
+     * 롤백되거나 저장에 실패하면 레지스트리에서 제거하여 다음 조회 시 DB 상태로 다시 적재
+     */
+    public QuizSession transition(String sessionToken, Consumer<QuizSession> change) {
+        QuizSession session = find(sessionToken)
+                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionToken));
+
+        synchronized (session) {
+            if (!session.isActive()) {
+                throw new IllegalStateException("비활성 세션입니다: " + sessionToken);
+            }
+            change.accept(session);
+            if (session.isActive()) {
+                dirtyTokens.add(sessionToken);
+                liveEventPublisher.sessionStatusChanged(session);
+                return session;
+            }
+
+            dirtyTokens.remove(sessionToken);
+            int updated;
+            try {
+                updated = jdbcTemplate.update(UPDATE_STATE_SQL, stateArgs(session, LocalDateTime.now()));
+            } catch (RuntimeException e) {
+                sessions.remove(sessionToken, session);
+                throw e;
+            }
+            if (updated == 0) {
+                // 만료 등으로 DB에서 이미 종료된 세션
+                sessions.remove(sessionToken, session);
+                throw new IllegalStateException("비활성 세션입니다: " + sessionToken);
+            }
+        }
+
+        afterCompletion(committed -> {
+            sessions.remove(sessionToken, session);
+            if (committed) {
+                liveEventPublisher.sessionStatusChanged(session);
+            }
+        });
+        return session;
+    }
+
+    /**
+     * 세션 만료 - 메모리 상태를 바꾸고 한 번의 UPDATE로 저장
+     * 레지스트리에 없는 토큰도 UPDATE 대상에 포함되며, 이미 종료된 세션은 상태 조건으로 제외
+     * flush와 같은 락으로 실행되어 저장 전 상태가 만료 상태를 덮어쓰지 않음
+     */
+    public synchronized int expire(Collection<String> sessionTokens, LocalDateTime now) {
+        List<QuizSession> expired = new ArrayList<>();
+        for (String token : sessionTokens) {
+            QuizSession session = sessions.get(token);
+            if (session == null) {
+                continue;
+            }
+            synchronized (session) {
+                if (session.isActive()) {
+                    session.setSessionStatus(QuizSession.SessionStatus.EXPIRED);
+                    session.setEndTime(now);
+                    dirtyTokens.remove(token);
+                    liveEventPublisher.sessionStatusChanged(session);
+                    expired.add(session);
+                }
+            }
+        }
+
+        int updated;
+        try {
+            updated = quizSessionRepository.expireActiveSessions(sessionTokens, now);
+        } catch (RuntimeException e) {
+            expired.forEach(session -> dirtyTokens.add(session.getSessionToken()));
+            log.error("Failed to expire {} quiz sessions, will retry through flush", sessionTokens.size(), e);
+            return expired.size();
+        }
+
+        expired.forEach(session -> sessions.remove(session.getSessionToken(), session));
+        return Math.max(updated, expired.size());
+    }
+
+    /**
+     * 현재 활성 세션 목록
+     */
+    public List<QuizSession> activeSessions() {
+        return sessions.values().stream()
+                .filter(QuizSession::isActive)
+                .toList();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * 변경된 세션 상태를 일괄 저장 (1초마다)
+     * 저장된 비활성 세션은 레지스트리에서 제거
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.session-registry.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (dirtyTokens.isEmpty()) {
+            return;
+        }
+
+        List<String> tokens = new ArrayList<>(dirtyTokens);
+        List<QuizSession> flushed = new ArrayList<>(tokens.size());
+        List<Object[]> batchArgs = new ArrayList<>(tokens.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (String token : tokens) {
+            dirtyTokens.remove(token);
+            QuizSession session = sessions.get(token);
+            if (session == null) {
+                continue;
+            }
+            synchronized (session) {
+                batchArgs.add(stateArgs(session, now));
+            }
+            flushed.add(session);
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            flushed.forEach(session -> dirtyTokens.add(session.getSessionToken()));
+            log.error("Failed to persist {} quiz session changes, will retry", flushed.size(), e);
+            return;
+        }
+
+        for (QuizSession session : flushed) {
+            String token = session.getSessionToken();
+            synchronized (session) {
+                if (!session.isActive() && !dirtyTokens.contains(token)) {
+                    sessions.remove(token, session);
+                }
+            }
+        }
+        log.debug("Persisted {} quiz session changes", flushed.size());
+    }
+
+    /**
+     * 종료 시 남은 변경분 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!dirtyTokens.isEmpty()) {
+            log.error("{} quiz session changes could not be persisted on shutdown", dirtyTokens.size());
+        }
+    }
+
+    /**
+     * UPDATE_STATE_SQL 인자 - 이미 종료된 행은 상태 조건으로 제외되어 덮어쓰지 않음
+     */
+    private Object[] stateArgs(QuizSession session, LocalDateTime now) {
+        return new Object[]{
+                session.getSessionStatus().name(),
+                toTimestamp(session.getEndTime()),
+                session.getIsForceTerminated(),
+                session.getTerminationReason(),
+                Timestamp.valueOf(now),
+                session.getSessionToken()
+        };
+    }
+
+    private void afterCommit(Runnable action) {
+        afterCompletion(committed -> {
+            if (committed) {
+                action.run();
+            }
+        });
+    }
+
+    private void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
@@ -6,12 +6,10 @@ import com.eddie.lms.domain.quiz.repository.QuizRepository;
 import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,16 +20,24 @@ public class QuizSessionService {
 
     private final QuizSessionRepository quizSessionRepository;
     private final QuizRepository quizRepository;
+    private final QuizSessionRegistry sessionRegistry;
+    private final QuizSessionExpiryService expiryService;
+    private final QuizParticipationIndex participationIndex;
 
     /**
      * 퀴즈 세션 시작
      */
     @Transactional
     public QuizSession startSession(Long quizId, Long studentId) {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new IllegalStateException("퀴즈를 찾을 수 없습니다: " + quizId));
+
         // 이미 세션이 있는지 확인
         Optional<QuizSession> existingSession = quizSessionRepository.findByQuizIdAndStudentId(quizId, studentId);
         if (existingSession.isPresent()) {
-            QuizSession session = existingSession.get();
+            // 저장 전인 상태 전이가 있을 수 있으므로 레지스트리 기준으로 판단
+            QuizSession session = sessionRegistry.find(existingSession.get().getSessionToken())
+                    .orElse(existingSession.get());
             if (session.isActive()) {
                 throw new IllegalStateException("이미 진행중인 퀴즈 세션이 있습니다.");
             }
@@ -43,15 +49,20 @@ public class QuizSessionService {
 
         // 새 세션 생성
         String sessionToken = generateSessionToken();
+        LocalDateTime startTime = LocalDateTime.now();
         QuizSession session = QuizSession.builder()
                 .quizId(quizId)
                 .studentId(studentId)
                 .sessionToken(sessionToken)
                 .sessionStatus(QuizSession.SessionStatus.STARTED)
-                .startTime(LocalDateTime.now())
+                .startTime(startTime)
+                .deadlineAt(QuizSession.deadlineOf(startTime, quiz.getTimeLimitMinutes(), quiz.getEndTime()))
                 .build();
 
         QuizSession savedSession = quizSessionRepository.save(session);
+        sessionRegistry.register(savedSession);
+        expiryService.track(savedSession, quiz);
+        participationIndex.markStarted(quizId, studentId);
         log.info("Quiz session started: {} for student: {}", sessionToken, studentId);
         return savedSession;
     }
@@ -59,32 +70,26 @@ public class QuizSessionService {
     /**
      * 세션 진행 상태로 변경
      */
-    @Transactional
     public void markInProgress(String sessionToken) {
-        QuizSession session = getActiveSession(sessionToken);
-        session.setSessionStatus(QuizSession.SessionStatus.IN_PROGRESS);
-        quizSessionRepository.save(session);
+        sessionRegistry.transition(sessionToken,
+                session -> session.setSessionStatus(QuizSession.SessionStatus.IN_PROGRESS));
     }
 
     /**
-     * 세션 완료
+     * 세션 완료 (종료 상태는 이 트랜잭션에서 바로 저장)
      */
     @Transactional
     public void completeSession(String sessionToken) {
-        QuizSession session = getActiveSession(sessionToken);
-        session.complete();
-        quizSessionRepository.save(session);
+        sessionRegistry.transition(sessionToken, QuizSession::complete);
         log.info("Quiz session completed: {}", sessionToken);
     }
 
     /**
-     * 세션 강제 종료
+     * 세션 강제 종료 (종료 상태는 이 트랜잭션에서 바로 저장)
      */
     @Transactional
     public void terminateSession(String sessionToken, String reason) {
-        QuizSession session = getActiveSession(sessionToken);
-        session.terminate(reason);
-        quizSessionRepository.save(session);
+        sessionRegistry.transition(sessionToken, session -> session.terminate(reason));
         log.warn("Quiz session terminated: {} - Reason: {}", sessionToken, reason);
     }
 
@@ -92,13 +97,16 @@ public class QuizSessionService {
      * 세션 유효성 확인
      */
     public boolean isSessionValid(String sessionToken) {
-        Optional<QuizSession> sessionOpt = quizSessionRepository.findBySessionToken(sessionToken);
-        if (sessionOpt.isEmpty()) {
-            return false;
-        }
+        return sessionRegistry.find(sessionToken)
+                .map(QuizSession::isActive)
+                .orElse(false);
+    }
 
-        QuizSession session = sessionOpt.get();
-        return session.isActive();
+    /**
+     * 세션 조회 (활성 여부와 무관, 없으면 empty)
+     */
+    public Optional<QuizSession> findSession(String sessionToken) {
+        return sessionRegistry.find(sessionToken);
     }
 
     /**
@@ -112,33 +120,13 @@ public class QuizSessionService {
      * 퀴즈 재응시 가능 여부 확인
      */
     public boolean canRetake(Long quizId, Long studentId) {
-        Optional<QuizSession> session = quizSessionRepository.findByQuizIdAndStudentId(quizId, studentId);
-        return session.isEmpty(); // 세션이 없으면 응시 가능
-    }
-
-    /**
-     * 만료된 세션 정리 (스케줄링)
-     */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
-    public void cleanupExpiredSessions() {
-        LocalDateTime expiredTime = LocalDateTime.now().minusHours(3); // 3시간 초과 세션 만료
-        List<QuizSession> expiredSessions = quizSessionRepository.findExpiredSessions(expiredTime);
-
-        if (!expiredSessions.isEmpty()) {
-            List<Long> sessionIds = expiredSessions.stream()
-                    .map(QuizSession::getSessionId)
-                    .toList();
-
-            quizSessionRepository.expireSessions(sessionIds, LocalDateTime.now());
-            log.info("Expired {} quiz sessions", sessionIds.size());
-        }
+        return !participationIndex.hasStarted(quizId, studentId); // 세션이 없으면 응시 가능
     }
 
     // === Private Methods ===
 
     private QuizSession getActiveSession(String sessionToken) {
-        Optional<QuizSession> sessionOpt = quizSessionRepository.findBySessionToken(sessionToken);
+        Optional<QuizSession> sessionOpt = sessionRegistry.find(sessionToken);
         if (sessionOpt.isEmpty()) {
             throw new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionToken);
         }
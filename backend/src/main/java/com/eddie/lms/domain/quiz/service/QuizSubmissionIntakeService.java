@@ -0,0 +1,367 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.request.QuizSubmitRequest;
+import com.eddie.lms.domain.quiz.dto.response.QuizSubmissionTicketResponse;
+import com.eddie.lms.domain.quiz.entity.QuizSubmissionIntake;
+import com.eddie.lms.domain.quiz.exception.SubmissionQueueFullException;
+import com.eddie.lms.domain.quiz.repository.QuizSubmissionIntakeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 제출 비동기 접수 서비스
+ * 마감 직전 몰리는 제출을 검증/시각 기록 후 접수 테이블에 저장한 뒤에만 접수증(ticket)으로 응답
+ * 워커 풀이 메모리 큐로 전달된 접수증을 테이블에서 배치 단위로 선점해 채점/저장하며, 결과는 기존 getMyQuizResult로 조회
+ * 재기동/장애로 처리되지 못한 접수는 테이블에 남아 있다가 주기적인 복구 스캔으로 다시 처리
+ * 큐가 가득 차면 503으로 거절하여 클라이언트가 재시도하도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizSubmissionIntakeService {
+
+    private static final TypeReference<List<QuizSubmitRequest.AnswerRequest>> ANSWERS_TYPE = new TypeReference<>() {};
+    private static final Set<QuizSubmissionIntake.Status> ACTIVE_STATUSES =
+            EnumSet.of(QuizSubmissionIntake.Status.QUEUED, QuizSubmissionIntake.Status.PROCESSING);
+    private static final int ACCEPT_LOCK_STRIPES = 64;
+    private static final int MAX_MESSAGE_LENGTH = 255;
+
+    private final QuizService quizService;
+    private final QuizSubmissionIntakeRepository intakeRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.quiz.submission-intake.queue-capacity:2000}")
+    private int queueCapacity;
+
+    @Value("${app.quiz.submission-intake.workers:4}")
+    private int workerCount;
+
+    @Value("${app.quiz.submission-intake.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.quiz.submission-intake.ticket-retention-minutes:60}")
+    private long ticketRetentionMinutes;
+
+    @Value("${app.quiz.submission-intake.stale-claim-minutes:5}")
+    private long staleClaimMinutes;
+
+    @Value("${app.quiz.submission-intake.shutdown-drain-seconds:120}")
+    private long shutdownDrainSeconds;
+
+    private final Object[] acceptLocks = new Object[ACCEPT_LOCK_STRIPES];
+    private final Set<String> queuedTicketIds = ConcurrentHashMap.newKeySet(); // 메모리 큐에 들어 있는 접수증
+
+    private BlockingQueue<String> queue;
+    private ExecutorService workers;
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < acceptLocks.length; i++) {
+            acceptLocks[i] = new Object();
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "quiz-intake-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+
+        Gauge.builder("quiz.submission.intake.queue.size", queue, BlockingQueue::size)
+                .description("채점 대기 중인 제출 수").register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 메모리 큐가 빌 때까지 계속 처리
+     * 제한 시간 안에 끝나지 않은 접수는 테이블에 대기 상태로 남아 재기동 후 처리됨
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(shutdownDrainSeconds, TimeUnit.SECONDS)) {
+            log.warn("Submission intake stopped with {} queued submissions - they remain in quiz_submission_intake " +
+                    "and will be processed after restart", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 제출 접수 - 접수 시각 기준으로 검증 후 접수 테이블에 저장하고 큐에 적재
+     * 같은 학생의 처리 전 접수가 있으면 기존 접수증 반환 (재시도 멱등)
+     */
+    public QuizSubmissionTicketResponse accept(Long classroomId, Long quizId, QuizSubmitRequest request, Long studentId) {
+        LocalDateTime receivedAt = LocalDateTime.now();
+
+        QuizSubmissionIntake intake;
+        synchronized (acceptLock(quizId, studentId)) {
+            Optional<QuizSubmissionIntake> existing =
+                    intakeRepository.findFirstByQuizIdAndStudentIdAndStatusIn(quizId, studentId, ACTIVE_STATUSES);
+            if (existing.isPresent()) {
+                return toResponse(existing.get());
+            }
+
+            quizService.validateSubmission(classroomId, quizId, studentId, receivedAt);
+            List<QuizSubmitRequest.AnswerRequest> answers = quizService.resolveSubmittedAnswers(quizId, studentId, request);
+
+            if (queue.remainingCapacity() == 0) {
+                log.warn("Submission intake queue full - rejected quiz: {}, student: {}", quizId, studentId);
+                throw new SubmissionQueueFullException("제출이 몰려 접수할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            intake = intakeRepository.save(QuizSubmissionIntake.builder()
+                    .ticketId(UUID.randomUUID().toString())
+                    .classroomId(classroomId)
+                    .quizId(quizId)
+                    .studentId(studentId)
+                    .answers(writeAnswers(answers))
+                    .receivedAt(receivedAt)
+                    .build());
+        }
+
+        // 저장된 접수는 큐 적재에 실패해도 복구 스캔이 처리하므로 접수증 발급
+        if (!enqueue(intake.getTicketId())) {
+            log.info("Submission intake queue filled after save - ticket: {} will be picked up by recovery",
+                    intake.getTicketId());
+        }
+
+        log.debug("Submission queued - ticket: {}, quiz: {}, student: {}", intake.getTicketId(), quizId, studentId);
+        return toResponse(intake);
+    }
+
+    /**
+     * 접수증 상태 조회 (본인 접수증만)
+     */
+    public QuizSubmissionTicketResponse getTicket(Long quizId, String ticketId, Long studentId) {
+        QuizSubmissionIntake intake = intakeRepository.findById(ticketId)
+                .filter(found -> found.getQuizId().equals(quizId))
+                .orElseThrow(() -> new EntityNotFoundException("제출 접수 내역을 찾을 수 없습니다: " + ticketId));
+        if (!intake.getStudentId().equals(studentId)) {
+            throw new AccessDeniedException("본인의 제출 내역만 조회할 수 있습니다.");
+        }
+        return toResponse(intake);
+    }
+
+    /**
+     * 기동 시 이전 실행에서 처리되지 못한 접수 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recover();
+    }
+
+    /**
+     * 테이블에 남은 대기 접수를 큐에 다시 적재 (30초마다)
+     * 처리 중 멈춘 선점은 일정 시간이 지나면 대기 상태로 되돌림
+     */
+    @Scheduled(fixedDelayString = "${app.quiz.submission-intake.recovery-interval-ms:30000}")
+    public void recover() {
+        if (!running) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int released = intakeRepository.releaseStaleClaims(now.minusMinutes(staleClaimMinutes));
+        if (released > 0) {
+            log.warn("Released {} stale submission intake claims", released);
+        }
+
+        int capacity = queue.remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        // 방금 접수되어 큐로 전달 중인 접수는 제외
+        List<String> ticketIds = intakeRepository.findQueuedTicketIds(now.minusSeconds(10), PageRequest.of(0, capacity));
+        int recovered = 0;
+        for (String ticketId : ticketIds) {
+            if (!queuedTicketIds.contains(ticketId) && enqueue(ticketId)) {
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            log.info("Recovered {} queued submissions from intake table", recovered);
+        }
+    }
+
+    /**
+     * 처리가 끝난 오래된 접수 기록 정리 (10분마다)
+     */
+    @Scheduled(fixedRate = 600000)
+    public void cleanupTickets() {
+        intakeRepository.deleteProcessedBefore(LocalDateTime.now().minusMinutes(ticketRetentionMinutes));
+    }
+
+    // === Private Helper Methods ===
+
+    private Object acceptLock(Long quizId, Long studentId) {
+        return acceptLocks[Math.floorMod(31 * quizId.hashCode() + studentId.hashCode(), acceptLocks.length)];
+    }
+
+    private boolean enqueue(String ticketId) {
+        if (!queuedTicketIds.add(ticketId)) {
+            return true;
+        }
+        if (!queue.offer(ticketId)) {
+            queuedTicketIds.remove(ticketId);
+            return false;
+        }
+        return true;
+    }
+
+    private void runWorker() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(queuedTicketIds::remove);
+                claimAndProcess(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 선점된 접수는 선점 만료 후 복구 스캔이 다시 처리
+                log.error("Failed to process submission intake batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 접수증을 선점한 뒤 테이블에 저장된 답안으로 처리 (다른 인스턴스가 먼저 선점한 접수는 건너뜀)
+     */
+    private void claimAndProcess(List<String> ticketIds) {
+        String claimToken = UUID.randomUUID().toString();
+        if (intakeRepository.claim(ticketIds, claimToken, LocalDateTime.now()) == 0) {
+            return;
+        }
+        List<QuizQueuedSubmission> submissions = intakeRepository.findByClaimToken(claimToken).stream()
+                .map(this::toQueuedSubmission)
+                .collect(Collectors.toList());
+        processBatch(claimToken, submissions);
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 처리하고, 실패하면 원인 제출만 실패하도록 건별로 재처리
+     * 완료 표시는 답안 저장과 같은 트랜잭션에서 기록하여 커밋 직후 장애가 나도 중복 처리되지 않음
+     */
+    private void processBatch(String claimToken, List<QuizQueuedSubmission> batch) {
+        try {
+            process(claimToken, batch);
+            log.debug("Processed {} queued submissions", batch.size());
+            return;
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                fail(claimToken, batch.get(0), e);
+                return;
+            }
+            log.info("Batch of {} submissions failed, retrying individually: {}", batch.size(), e.getMessage());
+        }
+
+        for (QuizQueuedSubmission submission : batch) {
+            try {
+                process(claimToken, List.of(submission));
+            } catch (Exception e) {
+                fail(claimToken, submission, e);
+            }
+        }
+    }
+
+    private void process(String claimToken, List<QuizQueuedSubmission> submissions) {
+        List<String> ticketIds = submissions.stream().map(QuizQueuedSubmission::getTicketId).collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> {
+            quizService.processQueuedSubmissions(submissions);
+            intakeRepository.markCompleted(ticketIds, claimToken, LocalDateTime.now());
+        });
+    }
+
+    private void fail(String claimToken, QuizQueuedSubmission submission, Exception e) {
+        log.warn("Queued submission failed - ticket: {}, quiz: {}, student: {}: {}",
+                submission.getTicketId(), submission.getQuizId(), submission.getStudentId(), e.getMessage());
+        String message = e.getMessage();
+        if (message != null && message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH);
+        }
+        intakeRepository.markFailed(submission.getTicketId(), claimToken, message, LocalDateTime.now());
+    }
+
+    private QuizQueuedSubmission toQueuedSubmission(QuizSubmissionIntake intake) {
+        return new QuizQueuedSubmission(intake.getTicketId(), intake.getClassroomId(), intake.getQuizId(),
+                intake.getStudentId(), readAnswers(intake.getAnswers()), intake.getReceivedAt());
+    }
+
+    private String writeAnswers(List<QuizSubmitRequest.AnswerRequest> answers) {
+        try {
+            return objectMapper.writeValueAsString(answers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제출 답안을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private List<QuizSubmitRequest.AnswerRequest> readAnswers(String json) {
+        try {
+            return objectMapper.readValue(json, ANSWERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("접수된 답안을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static QuizSubmissionTicketResponse toResponse(QuizSubmissionIntake intake) {
+        return QuizSubmissionTicketResponse.builder()
+                .ticketId(intake.getTicketId())
+                .quizId(intake.getQuizId())
+                .studentId(intake.getStudentId())
+                .status(intake.getStatus().name())
+                .receivedAt(intake.getReceivedAt())
+                .processedAt(intake.getProcessedAt())
+                .message(intake.getMessage())
+                .build();
+    }
+}
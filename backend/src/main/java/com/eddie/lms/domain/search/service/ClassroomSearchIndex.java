@@ -0,0 +1,373 @@
+package com.eddie.lms.domain.search.service;
+
+import com.eddie.lms.domain.quiz.service.PendingLoads;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 클래스룸별 전문 검색 색인 (수업, 커리큘럼, 게시글)
+ * 제목/본문을 정규화(NFKC, 소문자)한 뒤 문자 2-gram으로 역색인하여 검색어의 2-gram을 모두 가진 문서만 후보로 선택
+ * 한글은 음절 단위 2-gram이므로 조사가 붙거나 어절 중간에 있는 검색어도 찾을 수 있음
+ * 후보는 실제 포함 여부를 확인한 뒤 제목 일치/출현 횟수로 순위를 매기고, 동점은 기존 목록 순서를 따름
+ * 색인은 (유형, 클래스룸) 단위로 처음 검색할 때 DB에서 적재하고, 이후 변경은 커밋 후에 반영
+ * 다른 인스턴스의 변경이나 직접 수정한 데이터도 반영되도록 적재 후 일정 시간이 지난 색인은 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassroomSearchIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.search.max-indexes:500}")
+    private int maxIndexes;
+
+    @Value("${app.search.max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    private final PendingLoads<String> pendingLoads = new PendingLoads<>();
+    private final LinkedHashMap<String, TextIndex> indexes = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TextIndex> eldest) {
+            return size() > maxIndexes;
+        }
+    };
+
+    /**
+     * 검색 대상 유형 - 적재 쿼리의 4번째 컬럼은 기존 목록 순서 (생성일 또는 순서 번호)
+     */
+    public enum DocumentType {
+        LESSON("SELECT lesson_id, title, description, created_at FROM lessons WHERE classroom_id = ?"),
+        CURRICULUM("SELECT curriculum_id, title, description, order_index FROM curriculums WHERE classroom_id = ?"),
+        POST("SELECT post_id, title, content, created_at FROM board_post WHERE classroom_id = ? AND is_deleted = false");
+
+        private final String loadSql;
+
+        DocumentType(String loadSql) {
+            this.loadSql = loadSql;
+        }
+    }
+
+    /**
+     * 검색 결과 한 페이지 (순위순 ID와 전체 일치 건수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class SearchHits {
+        private static final int LOAD_CHUNK_SIZE = 1000;
+
+        private final List<Long> ids;
+        private final long total;
+
+        /**
+         * ID를 나누어 엔티티를 조회한 뒤 순위순으로 정렬 (그 사이 삭제된 엔티티는 제외)
+         * IN 절 바인드 변수 개수 제한을 넘지 않도록 LOAD_CHUNK_SIZE개씩 조회
+         */
+        public <T> List<T> load(Function<List<Long>, List<T>> finder, Function<T, Long> idOf) {
+            List<T> entities = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+                entities.addAll(finder.apply(ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()))));
+            }
+            Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+            return ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 검색 (offset부터 limit개)
+     */
+    public SearchHits search(DocumentType type, Long classroomId, String keyword, long offset, int limit) {
+        String query = normalize(keyword);
+        TextIndex index = get(type, classroomId);
+
+        List<Hit> hits = new ArrayList<>();
+        synchronized (index) {
+            BitSet candidates = index.candidates(grams(query));
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                Document document = index.documents.get(slot);
+                int score = score(document, query);
+                if (score > 0) {
+                    hits.add(new Hit(document, score));
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingInt((Hit hit) -> hit.score).reversed()
+                .thenComparingLong(hit -> hit.document.order)
+                .thenComparing(hit -> hit.document.id, Comparator.reverseOrder()));
+
+        List<Long> ids = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(hit -> hit.document.id)
+                .collect(Collectors.toList());
+        return new SearchHits(ids, hits.size());
+    }
+
+    /**
+     * 문서 추가/수정 반영 (커밋 후)
+     * order는 기존 목록 순서로, 작을수록 앞 (최신순 목록은 newestFirst 사용)
+     */
+    public void index(DocumentType type, Long classroomId, Long id, String title, String body, long order) {
+        Document document = new Document(id, normalize(title), normalize(body), order);
+        afterCommit(() -> update(type, classroomId, index -> index.put(document)));
+    }
+
+    /**
+     * 문서 삭제 반영 (커밋 후)
+     */
+    public void remove(DocumentType type, Long classroomId, Long id) {
+        afterCommit(() -> update(type, classroomId, index -> index.remove(id)));
+    }
+
+    /**
+     * 최신순 목록의 순서 값
+     */
+    public static long newestFirst(LocalDateTime createdAt) {
+        return createdAt != null ? -createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+
+    // === Private Helper Methods ===
+
+    private TextIndex get(DocumentType type, Long classroomId) {
+        String key = type + ":" + classroomId;
+        long invalidatedAt;
+        synchronized (this) {
+            TextIndex cached = indexes.get(key);
+            if (cached != null && !cached.isExpired(maxAgeSeconds)) {
+                return cached;
+            }
+            invalidatedAt = pendingLoads.start(key);
+        }
+
+        TextIndex loaded = new TextIndex();
+        try {
+            jdbcTemplate.query(type.loadSql, rs -> {
+                Object order = rs.getObject(4);
+                loaded.put(new Document(rs.getLong(1), normalize(rs.getString(2)), normalize(rs.getString(3)),
+                        order instanceof Timestamp timestamp ? newestFirst(timestamp.toLocalDateTime())
+                                : order instanceof Number number ? number.longValue() : 0));
+            }, classroomId);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingLoads.finish(key, invalidatedAt);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            // 적재 도중 이 색인이 변경되었다면 이전 상태일 수 있으므로 보관하지 않음
+            if (pendingLoads.finish(key, invalidatedAt)) {
+                TextIndex current = indexes.get(key);
+                if (current != null && !current.isExpired(maxAgeSeconds)) {
+                    return current;
+                }
+                indexes.put(key, loaded);
+            }
+        }
+        log.debug("Loaded search index {} ({} documents, {} grams)", key, loaded.slots.size(), loaded.postings.size());
+        return loaded;
+    }
+
+    private void update(DocumentType type, Long classroomId, Consumer<TextIndex> change) {
+        String key = type + ":" + classroomId;
+        TextIndex index;
+        synchronized (this) {
+            // 적재 중인 검색이 이 변경을 놓친 상태로 보관하지 않도록 표시
+            pendingLoads.invalidate(key);
+            index = indexes.get(key);
+            if (index == null) {
+                return;
+            }
+        }
+        synchronized (index) {
+            change.accept(index);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 순위 점수 (포함하지 않으면 0)
+     * 제목 완전 일치 > 제목 시작 > 제목 출현 횟수 > 본문 출현 횟수
+     */
+    private static int score(Document document, String query) {
+        if (query.isEmpty()) {
+            return 1;
+        }
+        int titleCount = occurrences(document.title, query);
+        int bodyCount = occurrences(document.body, query);
+        if (titleCount == 0 && bodyCount == 0) {
+            return 0;
+        }
+        int score = titleCount * 10 + Math.min(bodyCount, 10);
+        if (document.title.startsWith(query)) {
+            score += 20;
+        }
+        if (document.title.equals(query)) {
+            score += 100;
+        }
+        return score;
+    }
+
+    private static int occurrences(String text, String query) {
+        int count = 0;
+        for (int from = text.indexOf(query); from >= 0; from = text.indexOf(query, from + query.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문자 2-gram 집합 (한 글자 이하는 빈 집합 - 후보를 좁히지 않고 전체 확인)
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static final class Document {
+        private final long id;
+        private final String title;
+        private final String body;
+        private final long order;
+
+        private Document(long id, String title, String body, long order) {
+            this.id = id;
+            this.title = title;
+            this.body = body;
+            this.order = order;
+        }
+    }
+
+    private static final class Hit {
+        private final Document document;
+        private final int score;
+
+        private Hit(Document document, int score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 문서 슬롯 + 2-gram별 슬롯 비트맵 (후보 = 검색어 2-gram 비트맵의 교집합)
+     */
+    private static final class TextIndex {
+        private final long loadedAt = System.currentTimeMillis();
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private final List<Document> documents = new ArrayList<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, BitSet> postings = new HashMap<>();
+
+        private void put(Document document) {
+            remove(document.id);
+            Integer free = freeSlots.poll();
+            int slot = free != null ? free : documents.size();
+            if (free != null) {
+                documents.set(slot, document);
+            } else {
+                documents.add(document);
+            }
+            slots.put(document.id, slot);
+            live.set(slot);
+            for (String gram : gramsOf(document)) {
+                postings.computeIfAbsent(gram, key -> new BitSet()).set(slot);
+            }
+        }
+
+        private void remove(long id) {
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            Document document = documents.set(slot, null);
+            live.clear(slot);
+            for (String gram : gramsOf(document)) {
+                BitSet posting = postings.get(gram);
+                if (posting != null) {
+                    posting.clear(slot);
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            freeSlots.push(slot);
+        }
+
+        private boolean isExpired(long maxAgeSeconds) {
+            return System.currentTimeMillis() - loadedAt >= maxAgeSeconds * 1000;
+        }
+
+        private BitSet candidates(Set<String> queryGrams) {
+            BitSet result = (BitSet) live.clone();
+            for (String gram : queryGrams) {
+                BitSet posting = postings.get(gram);
+                if (posting == null) {
+                    return new BitSet();
+                }
+                result.and(posting);
+            }
+            return result;
+        }
+
+        private static Set<String> gramsOf(Document document) {
+            Set<String> grams = grams(document.title);
+            grams.addAll(grams(document.body));
+            return grams;
+        }
+    }
+}
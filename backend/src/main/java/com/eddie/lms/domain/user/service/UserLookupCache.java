@@ -0,0 +1,94 @@
+package com.eddie.lms.domain.user.service;
+
+import com.eddie.lms.domain.user.entity.User;
+import com.eddie.lms.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 전용 사용자 조회 캐시 (TTL 기본 15분, 퀴즈 예열 lead time보다 길게 유지)
+ * 퀴즈 응시처럼 같은 사용자를 반복 조회하는 경로에서 사용하며, 사용자 정보 변경 시 evict
+ * 반환된 User는 수정/저장하지 말 것
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLookupCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.user.lookup-cache.ttl-seconds:900}")
+    private long ttlSeconds;
+
+    @Value("${app.user.lookup-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, CachedUser> users = new ConcurrentHashMap<>();
+
+    public Optional<User> find(Long userId) {
+        CachedUser cached = users.get(userId);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached.user);
+        }
+
+        Optional<User> user = userRepository.findById(userId);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    /**
+     * 여러 사용자를 한 번에 적재 (캐시 예열용), 적재한 사용자 수 반환
+     */
+    public int warm(Collection<Long> userIds) {
+        List<Long> missing = userIds.stream()
+                .filter(id -> {
+                    CachedUser cached = users.get(id);
+                    return cached == null || cached.isExpired();
+                })
+                .distinct()
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        List<User> loaded = userRepository.findAllById(missing);
+        loaded.forEach(this::put);
+        return loaded.size();
+    }
+
+    public void evict(Long userId) {
+        users.remove(userId);
+    }
+
+    private void put(User user) {
+        if (users.size() >= maxSize) {
+            users.values().removeIf(CachedUser::isExpired);
+            if (users.size() >= maxSize) {
+                users.clear();
+            }
+        }
+        users.put(user.getUserId(), new CachedUser(user, System.nanoTime() + Duration.ofSeconds(ttlSeconds).toNanos()));
+    }
+
+    private static final class CachedUser {
+        private final User user;
+        private final long expiresAtNanos;
+
+        private CachedUser(User user, long expiresAtNanos) {
+            this.user = user;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
@@ -87,6 +88,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(currentUser);
+        userLookupCache.evict(currentUser.getUserId());
         return convertToUserResponse(updatedUser);
     }
 
@@ -125,6 +127,7 @@ public class UserService {
             // 사용자 프로필 이미지 URL 업데이트
             currentUser.setProfileImageUrl(imageUrl);
             userRepository.save(currentUser);
+            userLookupCache.evict(currentUser.getUserId());
 
             log.info("Profile image uploaded successfully: {}", imageUrl);
             return imageUrl;
@@ -148,6 +151,7 @@ public class UserService {
         // 사용자 프로필 이미지 URL 제거
         currentUser.setProfileImageUrl(null);
         userRepository.save(currentUser);
+        userLookupCache.evict(currentUser.getUserId());
 
         log.info("Profile image deleted successfully for user: {}", currentUser.getEmail());
     }
@@ -185,6 +189,7 @@ public class UserService {
         }
 
         userRepository.deleteById(userId);
+        userLookupCache.evict(userId);
         log.info("User deleted successfully: {}", userId);
     }
 
@@ -0,0 +1,101 @@
+package com.eddie.lms.security.jwt;
+
+import com.eddie.lms.domain.quiz.repository.QuizRepository;
+import com.eddie.lms.domain.user.entity.User;
+import com.eddie.lms.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 인증/인가 인터셉터
+ * CONNECT: Authorization 헤더의 JWT 검증 후 사용자 ID를 Principal로 설정
+ * SUBSCRIBE: 퀴즈 실시간 현황 토픽은 해당 퀴즈를 만든 교육자만 구독 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Pattern QUIZ_TOPIC = Pattern.compile("^/topic/quizzes/(\\d+)/.+$");
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+    private final QuizRepository quizRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor);
+        }
+        return message;
+    }
+
+    private Principal authenticate(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(BEARER_PREFIX)) {
+            throw new MessageDeliveryException("인증 토큰이 없습니다.");
+        }
+
+        String jwt = bearerToken.substring(BEARER_PREFIX.length());
+        if (!jwtTokenProvider.validateToken(jwt)) {
+            throw new MessageDeliveryException("유효하지 않은 토큰입니다.");
+        }
+
+        Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+        String userType = jwtTokenProvider.getUserTypeFromToken(jwt);
+        User user = userRepository.findById(userId)
+                .filter(found -> found.getUserType().name().equals(userType))
+                .orElseThrow(() -> new MessageDeliveryException("사용자 정보가 일치하지 않습니다."));
+
+        return new UsernamePasswordAuthenticationToken(String.valueOf(user.getUserId()), null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + userType)));
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        Matcher matcher = destination != null ? QUIZ_TOPIC.matcher(destination) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new MessageDeliveryException("구독할 수 없는 경로입니다: " + destination);
+        }
+
+        Principal principal = accessor.getUser();
+        if (principal == null) {
+            throw new MessageDeliveryException("인증되지 않은 연결입니다.");
+        }
+
+        Long userId = Long.valueOf(principal.getName());
+        Long quizId = Long.valueOf(matcher.group(1));
+        boolean owner = quizRepository.findById(quizId)
+                .map(quiz -> quiz.getCreatorId().equals(userId))
+                .orElse(false);
+        if (!owner) {
+            log.warn("Rejected quiz topic subscription - user: {}, destination: {}", userId, destination);
+            throw new MessageDeliveryException("해당 퀴즈의 응시 현황을 볼 권한이 없습니다.");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.eddie.lms.security.oauth;
 
 import com.eddie.lms.domain.user.entity.User;
 import com.eddie.lms.domain.user.repository.UserRepository;
+import com.eddie.lms.domain.user.service.UserLookupCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -18,6 +19,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -45,6 +47,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             User user = existingUser.get();
             user.setName(name);
             user.setProfileImageUrl(profileImageUrl);
+            userLookupCache.evict(user.getUserId());
             return userRepository.save(user);
         } else {
             // 새 사용자 생성 (기본적으로 LEARNER로 설정)
@@ -0,0 +1,133 @@
+package com.eddie.lms.domain.quiz.repository;
+
+import com.eddie.lms.domain.quiz.entity.QuizAnswerRecord;
+import com.eddie.lms.support.H2DataJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 답안 저장 방식 비교 (JPA saveAll vs JDBC 다중 행 INSERT)
+ * 같은 데이터셋(학생 수 x 문항 수)을 제출 단위로 저장하고 제출당 평균 시간과 초당 행 수를 출력
+ * 임베디드 H2 기준이므로 절대값보다 두 방식의 비율을 볼 것
+ * 실행: QUIZ_BENCHMARK=true gradle test --tests '*QuizAnswerInsertBenchmarkTest'
+ */
+@H2DataJpaTest
+@Import(QuizAnswerRecordJdbcRepository.class)
+@EnabledIfEnvironmentVariable(named = "QUIZ_BENCHMARK", matches = "true")
+class QuizAnswerInsertBenchmarkTest {
+
+    private static final int STUDENTS = 500;
+    private static final int QUESTIONS = 20;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private QuizAnswerRecordRepository responseRepository;
+
+    @Autowired
+    private QuizAnswerRecordJdbcRepository jdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void compareSaveAllWithInsertAll() {
+        Result saveAll = measure("saveAll", submission -> {
+            responseRepository.saveAll(submission);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        Result insertAll = measure("insertAll", jdbcRepository::insertAll);
+
+        System.out.printf("%d submissions x %d answers, %d measured rounds%n", STUDENTS, QUESTIONS, MEASURED_ROUNDS);
+        System.out.println(saveAll);
+        System.out.println(insertAll);
+        System.out.printf("insertAll speedup: %.1fx%n", (double) saveAll.nanosPerSubmission / insertAll.nanosPerSubmission);
+
+        assertThat(insertAll.rows).isEqualTo(saveAll.rows);
+    }
+
+    private Result measure(String name, Consumer<List<QuizAnswerRecord>> insert) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(round, insert);
+        }
+
+        long elapsed = 0;
+        long rows = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            elapsed += run(WARMUP_ROUNDS + round, insert);
+            rows += count();
+        }
+        return new Result(name, rows, elapsed / ((long) MEASURED_ROUNDS * STUDENTS), rows * 1_000_000_000L / elapsed);
+    }
+
+    /**
+     * 한 라운드 = 퀴즈 하나에 학생 전원이 제출 (제출마다 문항 수만큼의 답안)
+     */
+    private long run(int round, Consumer<List<QuizAnswerRecord>> insert) {
+        jdbcTemplate.update("DELETE FROM quiz_response");
+        List<List<QuizAnswerRecord>> submissions = dataset(round + 1L);
+
+        long startedAt = System.nanoTime();
+        submissions.forEach(insert);
+        return System.nanoTime() - startedAt;
+    }
+
+    private long count() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quiz_response", Long.class);
+        return rows != null ? rows : 0;
+    }
+
+    private static List<List<QuizAnswerRecord>> dataset(long quizId) {
+        LocalDateTime answeredAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<List<QuizAnswerRecord>> submissions = new ArrayList<>(STUDENTS);
+        for (long studentId = 1; studentId <= STUDENTS; studentId++) {
+            List<QuizAnswerRecord> answers = new ArrayList<>(QUESTIONS);
+            for (long questionId = 1; questionId <= QUESTIONS; questionId++) {
+                answers.add(QuizAnswerRecord.builder()
+                        .quizId(quizId)
+                        .studentId(studentId)
+                        .questionId(questionId)
+                        .answer("answer-" + (studentId + questionId) % 4)
+                        .isCorrect((studentId + questionId) % 4 == 0)
+                        .answeredAt(answeredAt)
+                        .build());
+            }
+            submissions.add(answers);
+        }
+        return submissions;
+    }
+
+    private static final class Result {
+        private final String name;
+        private final long rows;
+        private final long nanosPerSubmission;
+        private final long rowsPerSecond;
+
+        private Result(String name, long rows, long nanosPerSubmission, long rowsPerSecond) {
+            this.name = name;
+            this.rows = rows;
+            this.nanosPerSubmission = nanosPerSubmission;
+            this.rowsPerSecond = rowsPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %8d us/submission %10d rows/s", name, nanosPerSubmission / 1_000, rowsPerSecond);
+        }
+    }
+}
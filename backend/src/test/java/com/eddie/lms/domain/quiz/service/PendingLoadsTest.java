@@ -0,0 +1,59 @@
+package com.eddie.lms.domain.quiz.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingLoadsTest {
+
+    private final PendingLoads<Long> pendingLoads = new PendingLoads<>();
+
+    @Test
+    void loadWithoutInvalidationIsKeptAndForgotten() {
+        long startedAt = pendingLoads.start(1L);
+
+        assertThat(pendingLoads.finish(1L, startedAt)).isTrue();
+        assertThat(pendingLoads.size()).isZero();
+    }
+
+    @Test
+    void invalidationDuringLoadIsDetected() {
+        long startedAt = pendingLoads.start(1L);
+        pendingLoads.invalidate(1L);
+
+        assertThat(pendingLoads.finish(1L, startedAt)).isFalse();
+        assertThat(pendingLoads.size()).isZero();
+    }
+
+    @Test
+    void invalidationOfIdleKeysIsNotRecorded() {
+        for (long quizId = 1; quizId <= 1_000; quizId++) {
+            pendingLoads.invalidate(quizId);
+        }
+
+        assertThat(pendingLoads.size()).isZero();
+        long startedAt = pendingLoads.start(1L);
+        assertThat(pendingLoads.finish(1L, startedAt)).isTrue();
+    }
+
+    @Test
+    void overlappingLoadsShareTheRecordUntilTheLastFinishes() {
+        long first = pendingLoads.start(1L);
+        pendingLoads.invalidate(1L);
+        long second = pendingLoads.start(1L);
+
+        assertThat(pendingLoads.finish(1L, first)).isFalse();
+        assertThat(pendingLoads.size()).isEqualTo(1);
+        assertThat(pendingLoads.finish(1L, second)).isTrue();
+        assertThat(pendingLoads.size()).isZero();
+    }
+
+    @Test
+    void otherKeysDoNotAffectLoad() {
+        long startedAt = pendingLoads.start(1L);
+        pendingLoads.start(2L);
+        pendingLoads.invalidate(2L);
+
+        assertThat(pendingLoads.finish(1L, startedAt)).isTrue();
+    }
+}
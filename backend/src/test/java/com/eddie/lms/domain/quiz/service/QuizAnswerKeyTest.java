@@ -0,0 +1,72 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.QuizQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizAnswerKeyTest {
+
+    private final QuizAnswerKey answerKey = QuizAnswerKey.compile(1L, List.of(
+            question(11L, QuizQuestion.QuestionType.MULTIPLE_CHOICE, " Paris ", 3),
+            question(12L, QuizQuestion.QuestionType.SHORT_ANSWER, "Garbage Collection", 5),
+            question(13L, QuizQuestion.QuestionType.SHORT_ANSWER, null, null)));
+
+    @Test
+    void indexesEntriesInQuestionOrder() {
+        assertThat(answerKey.getQuestionCount()).isEqualTo(3);
+        assertThat(answerKey.getTotalPoints()).isEqualTo(8);
+        assertThat(answerKey.getEntry(12L).getOrdinal()).isEqualTo(1);
+        assertThat(answerKey.contains(14L)).isFalse();
+        assertThat(answerKey.getEntry(14L)).isNull();
+    }
+
+    @Test
+    void gradesMultipleChoiceIgnoringCaseAndSurroundingSpaces() {
+        QuizAnswerKey.Entry entry = answerKey.getEntry(11L);
+
+        assertThat(entry.grade("Paris")).isTrue();
+        assertThat(entry.grade("  pARIS\n")).isTrue();
+        assertThat(entry.grade("Pari")).isFalse();
+        assertThat(entry.grade("Paris, France")).isFalse();
+        assertThat(entry.grade(null)).isFalse();
+    }
+
+    @Test
+    void gradesShortAnswerByMatchOrContainment() {
+        QuizAnswerKey.Entry entry = answerKey.getEntry(12L);
+
+        assertThat(entry.grade("garbage collection")).isTrue();
+        assertThat(entry.grade("  It is GARBAGE COLLECTION.  ")).isTrue();
+        assertThat(entry.grade("garbage")).isTrue();
+        assertThat(entry.grade("reference counting")).isFalse();
+        assertThat(entry.grade(null)).isFalse();
+    }
+
+    @Test
+    void questionWithoutAnswerIsNeverCorrect() {
+        QuizAnswerKey.Entry entry = answerKey.getEntry(13L);
+
+        assertThat(entry.grade("anything")).isFalse();
+        assertThat(entry.getPoints()).isZero();
+    }
+
+    @Test
+    void awardsPointsOnlyForCorrectKnownQuestions() {
+        assertThat(answerKey.pointsFor(11L, true)).isEqualTo(3);
+        assertThat(answerKey.pointsFor(11L, false)).isZero();
+        assertThat(answerKey.pointsFor(99L, true)).isZero();
+    }
+
+    private static QuizQuestion question(Long id, QuizQuestion.QuestionType type, String correctAnswer, Integer points) {
+        return QuizQuestion.builder()
+                .questionId(id)
+                .quizId(1L)
+                .questionType(type)
+                .correctAnswer(correctAnswer)
+                .points(points)
+                .build();
+    }
+}
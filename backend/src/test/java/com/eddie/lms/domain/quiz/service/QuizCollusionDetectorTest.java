@@ -0,0 +1,258 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.entity.QuizAnswerRecord;
+import com.eddie.lms.domain.quiz.entity.QuizCollusionFlag;
+import com.eddie.lms.domain.quiz.entity.QuizQuestion;
+import com.eddie.lms.domain.quiz.entity.QuizSession;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
+import com.eddie.lms.domain.quiz.repository.QuizCollusionFlagRepository;
+import com.eddie.lms.domain.quiz.repository.QuizRepository;
+import com.eddie.lms.domain.quiz.repository.QuizSessionRepository;
+import com.eddie.lms.support.H2DataJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@H2DataJpaTest
+@Import({QuizAnswerRecordJdbcRepository.class, QuizCollusionDetector.class})
+class QuizCollusionDetectorTest {
+
+    private static final String CORRECT = "a";
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @MockitoBean
+    private QuizQuestionCache questionCache;
+
+    @Autowired
+    private QuizCollusionDetector detector;
+
+    @Autowired
+    private QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
+
+    @Autowired
+    private QuizCollusionFlagRepository flagRepository;
+
+    @Autowired
+    private QuizSessionRepository quizSessionRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long quizId;
+    private QuizAnswerKey answerKey;
+
+    @BeforeEach
+    void setUp() {
+        configure("minIdenticalWrong", 3);
+        configure("minSimilarity", 0.6);
+        configure("bandSize", 2);
+        configure("maxBucketSize", 100);
+        quizId = quizRepository.save(Quiz.builder()
+                .classroomId(1L)
+                .creatorId(1L)
+                .title("quiz")
+                .startTime(START)
+                .endTime(START.plusHours(1))
+                .timeLimitMinutes(30)
+                .build()).getQuizId();
+    }
+
+    @Test
+    void flagsPairSharingWrongAnswers() {
+        useQuestions(10);
+        submit(1, "a", "a", "b", "c", "d", "e", "a", "a", "a", "a");
+        submit(2, "a", "a", "B ", "c", " D", "e", "a", "a", "a", "a");  // 대소문자/공백만 다른 같은 답안
+        submit(3, "a", "a", "a", "a", "a", "a", "a", "a", "a", "a");
+        submit(4, "a", "a", "a", "a", "a", "a", "b", "c", "d", "e");
+        submit(5, "a", "a", "c", "d", "e", "b", "a", "a", "a", "a");
+
+        List<QuizCollusionFlag> flags = detect();
+
+        assertThat(flags).hasSize(1);
+        QuizCollusionFlag flag = flags.get(0);
+        assertThat(flag.getQuizId()).isEqualTo(quizId);
+        assertThat(flag.getStudentAId()).isEqualTo(1L);
+        assertThat(flag.getStudentBId()).isEqualTo(2L);
+        assertThat(flag.getIdenticalAnswers()).isEqualTo(10);
+        assertThat(flag.getIdenticalWrongAnswers()).isEqualTo(4);
+        assertThat(flag.getSimilarity()).isEqualTo(1.0);
+        assertThat(jdbcTemplate.queryForObject("SELECT collusion_checked_at FROM quiz WHERE quiz_id = ?",
+                LocalDateTime.class, quizId)).isNotNull();
+    }
+
+    @Test
+    void cleanMatrixHasNoFlags() {
+        useQuestions(6);
+        submit(1, "a", "a", "a", "a", "a", "a");
+        submit(2, "b", "a", "c", "a", "d", "a");
+        submit(3, "c", "a", "d", "a", "b", "a");
+        submit(4, "a", "b", "a", "c", "a", "d");
+
+        assertThat(detect()).isEmpty();
+    }
+
+    @Test
+    void pairBelowMinIdenticalWrongIsNotFlagged() {
+        useQuestions(6);
+        submit(1, "b", "c", "a", "a", "a", "a");
+        submit(2, "b", "c", "a", "a", "a", "a");
+
+        assertThat(detect()).isEmpty();
+
+        configure("minIdenticalWrong", 2);
+        List<QuizCollusionFlag> flags = detect();
+        assertThat(flags).hasSize(1);
+        assertThat(flags.get(0).getIdenticalWrongAnswers()).isEqualTo(2);
+    }
+
+    @Test
+    void pairBelowMinSimilarityIsNotFlagged() {
+        useQuestions(9);
+        submit(1, "b", "c", "d", "b", "b", "b", "a", "a", "a");
+        submit(2, "b", "c", "d", "a", "a", "a", "c", "c", "c");
+
+        assertThat(detect()).isEmpty();
+
+        // 같은 오답 3개 / 둘 중 한 명이라도 틀린 문항 9개
+        configure("minSimilarity", 0.3);
+        List<QuizCollusionFlag> flags = detect();
+        assertThat(flags).hasSize(1);
+        assertThat(flags.get(0).getSimilarity()).isEqualTo(0.333);
+    }
+
+    @Test
+    void countsWrongAnswersBeyondFirstWord() {
+        useQuestions(70);
+        submit(1, wrongAt(70, "b", 1, 65, 69));
+        submit(2, wrongAt(70, "b", 1, 65, 69));
+        submit(3, wrongAt(70, "c", 1, 64));
+
+        List<QuizCollusionFlag> flags = detect();
+
+        assertThat(flags).hasSize(1);
+        QuizCollusionFlag flag = flags.get(0);
+        assertThat(flag.getStudentAId()).isEqualTo(1L);
+        assertThat(flag.getStudentBId()).isEqualTo(2L);
+        assertThat(flag.getIdenticalAnswers()).isEqualTo(70);
+        assertThat(flag.getIdenticalWrongAnswers()).isEqualTo(3);
+        assertThat(flag.getSimilarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void commonWrongAnswerBucketIsSkipped() {
+        useQuestions(6);
+        submit(1, "b", "c", "d", "a", "a", "a");
+        submit(2, "b", "c", "d", "a", "a", "a");
+        submit(3, "b", "c", "d", "a", "a", "a");
+
+        assertThat(detect()).hasSize(3);
+
+        configure("maxBucketSize", 2);
+        assertThat(detect()).isEmpty();
+    }
+
+    @Test
+    void attachesProctoringEvents() {
+        useQuestions(4);
+        submit(7, "b", "c", "d", "a");
+        submit(9, "b", "c", "d", "a");
+        quizSessionRepository.save(QuizSession.builder()
+                .quizId(quizId)
+                .studentId(9L)
+                .sessionToken("session-9")
+                .startTime(START)
+                .tabSwitchCount(2)
+                .violationCount(1)
+                .warningCount(1)
+                .build());
+
+        List<QuizCollusionFlag> flags = detect();
+
+        assertThat(flags).hasSize(1);
+        assertThat(flags.get(0).getProctoringEventsA()).isZero();
+        assertThat(flags.get(0).getProctoringEventsB()).isEqualTo(4L);
+    }
+
+    // === Helpers ===
+
+    private void configure(String field, Object value) {
+        QuizCollusionDetector target = AopTestUtils.getTargetObject(detector);
+        ReflectionTestUtils.setField(target, field, value);
+    }
+
+    private void useQuestions(int count) {
+        List<QuizQuestion> questions = new ArrayList<>(count);
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            questions.add(QuizQuestion.builder()
+                    .questionId(100L + ordinal)
+                    .quizId(quizId)
+                    .questionType(QuizQuestion.QuestionType.MULTIPLE_CHOICE)
+                    .correctAnswer(CORRECT)
+                    .points(1)
+                    .orderIndex(ordinal)
+                    .build());
+        }
+        answerKey = QuizAnswerKey.compile(quizId, questions);
+        when(questionCache.getAnswerKey(quizId)).thenReturn(answerKey);
+    }
+
+    /**
+     * 학생 한 명의 답안 저장
+     */
+    private void submit(long studentId, String... answers) {
+        List<QuizAnswerRecord> records = new ArrayList<>(answers.length);
+        for (int ordinal = 0; ordinal < answers.length; ordinal++) {
+            QuizAnswerKey.Entry entry = answerKey.getEntries().get(ordinal);
+            records.add(QuizAnswerRecord.builder()
+                    .quizId(quizId)
+                    .studentId(studentId)
+                    .questionId(entry.getQuestionId())
+                    .answer(answers[ordinal])
+                    .isCorrect(entry.grade(answers[ordinal]))
+                    .answeredAt(START.plusMinutes(10))
+                    .build());
+        }
+        answerRecordJdbcRepository.insertAll(records);
+    }
+
+    private static String[] wrongAt(int count, String answer, int... ordinals) {
+        String[] answers = new String[count];
+        Arrays.fill(answers, CORRECT);
+        for (int ordinal : ordinals) {
+            answers[ordinal] = answer;
+        }
+        return answers;
+    }
+
+    /**
+     * 분석 실행 후 저장된 의심 쌍을 학생 ID 순으로 반환 (이전 분석 결과가 남지 않았는지 함께 확인)
+     */
+    private List<QuizCollusionFlag> detect() {
+        int flagged = detector.detect(quizId);
+
+        List<QuizCollusionFlag> flags = new ArrayList<>(
+                flagRepository.findByQuizIdOrderByIdenticalWrongAnswersDescSimilarityDesc(quizId));
+        flags.sort(Comparator.comparing(QuizCollusionFlag::getStudentAId)
+                .thenComparing(QuizCollusionFlag::getStudentBId));
+        assertThat(flagged).isEqualTo(flags.size());
+        return flags;
+    }
+}
@@ -0,0 +1,91 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.dto.response.QuizLiveDistributionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuizResultAggregateTest {
+
+    private static final LocalDateTime SUBMITTED_AT = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Test
+    void emptyAggregateHasNoPercentiles() {
+        QuizLiveDistributionResponse live = new QuizResultAggregate(1L, 20).liveDistribution();
+
+        assertThat(live.getParticipantCount()).isZero();
+        assertThat(live.getAverageScore()).isZero();
+        assertThat(live.getMinPercentage()).isNull();
+        assertThat(live.getMedianPercentage()).isNull();
+        assertThat(live.getMaxPercentage()).isNull();
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        QuizResultAggregate aggregate = new QuizResultAggregate(1L, 100);
+        for (int score = 10; score <= 100; score += 10) {
+            aggregate.record(total(score / 10, score));
+        }
+
+        QuizLiveDistributionResponse live = aggregate.liveDistribution();
+
+        assertThat(live.getMinPercentage()).isEqualTo(10.0);
+        assertThat(live.getP25Percentage()).isEqualTo(30.0);
+        assertThat(live.getMedianPercentage()).isEqualTo(50.0);
+        assertThat(live.getP75Percentage()).isEqualTo(80.0);
+        assertThat(live.getP90Percentage()).isEqualTo(90.0);
+        assertThat(live.getMaxPercentage()).isEqualTo(100.0);
+        assertThat(live.getAverageScore()).isEqualTo(55.0);
+        assertThat(live.getAveragePercentage()).isCloseTo(55.0, within(1e-9));
+    }
+
+    @Test
+    void percentilesAreScoreRatiosRoundedDown() {
+        QuizResultAggregate aggregate = new QuizResultAggregate(1L, 30);
+        aggregate.record(total(1, 0));
+        aggregate.record(total(2, 10));
+        aggregate.record(total(3, 29));
+
+        QuizLiveDistributionResponse live = aggregate.liveDistribution();
+
+        assertThat(live.getMinPercentage()).isZero();
+        assertThat(live.getMedianPercentage()).isEqualTo(33.0);
+        assertThat(live.getMaxPercentage()).isEqualTo(96.0);
+    }
+
+    @Test
+    void resubmissionReplacesPreviousResult() {
+        QuizResultAggregate aggregate = new QuizResultAggregate(1L, 10);
+        aggregate.record(total(1, 2));
+        aggregate.record(total(2, 6));
+        aggregate.record(total(1, 10));
+
+        QuizLiveDistributionResponse live = aggregate.liveDistribution();
+
+        assertThat(live.getParticipantCount()).isEqualTo(2);
+        assertThat(live.getAverageScore()).isEqualTo(8.0);
+        assertThat(live.getMinPercentage()).isEqualTo(60.0);
+        assertThat(live.getMaxPercentage()).isEqualTo(100.0);
+        assertThat(live.getScoreDistribution()).containsExactly(0, 0, 0, 0, 0, 0, 1, 0, 0, 1);
+    }
+
+    @Test
+    void zeroMaxScoreKeepsEveryoneInFirstBucket() {
+        QuizResultAggregate aggregate = new QuizResultAggregate(1L, 0);
+        aggregate.record(total(1, 0));
+        aggregate.record(total(2, 0));
+
+        QuizLiveDistributionResponse live = aggregate.liveDistribution();
+
+        assertThat(live.getAveragePercentage()).isZero();
+        assertThat(live.getMaxPercentage()).isZero();
+        assertThat(live.getScoreDistribution().get(0)).isEqualTo(2);
+    }
+
+    private static QuizResultAggregate.StudentTotal total(long studentId, int score) {
+        return new QuizResultAggregate.StudentTotal(studentId, score, 0, SUBMITTED_AT);
+    }
+}
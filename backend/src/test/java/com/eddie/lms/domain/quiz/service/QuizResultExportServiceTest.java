@@ -0,0 +1,118 @@
+package com.eddie.lms.domain.quiz.service;
+
+import com.eddie.lms.domain.quiz.entity.Quiz;
+import com.eddie.lms.domain.quiz.entity.QuizAnswerRecord;
+import com.eddie.lms.domain.quiz.entity.QuizQuestion;
+import com.eddie.lms.domain.quiz.repository.QuizAnswerRecordJdbcRepository;
+import com.eddie.lms.support.H2DataJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@H2DataJpaTest
+@Import({QuizAnswerRecordJdbcRepository.class, QuizResultExportService.class})
+class QuizResultExportServiceTest {
+
+    private static final Long QUIZ_ID = 1L;
+    private static final Long QUESTION_ID = 11L;
+    private static final LocalDateTime ANSWERED_AT = LocalDateTime.of(2026, 3, 1, 9, 30, 15);
+
+    @MockitoBean
+    private QuizQuestionCache questionCache;
+
+    @Autowired
+    private QuizAnswerRecordJdbcRepository answerRecordJdbcRepository;
+
+    @Autowired
+    private QuizResultExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(questionCache.getAnswerKey(QUIZ_ID)).thenReturn(QuizAnswerKey.compile(QUIZ_ID, List.of(
+                QuizQuestion.builder().questionId(QUESTION_ID).quizId(QUIZ_ID)
+                        .questionType(QuizQuestion.QuestionType.SHORT_ANSWER).correctAnswer("x").points(2).build())));
+    }
+
+    @Test
+    void writesHeaderAndOneLinePerStudent() throws IOException {
+        student(6L, "Lee", "lee@example.com");
+        student(5L, "Kim", "kim@example.com");
+        answer(6L, "y", false);
+        answer(5L, "x", true);
+        answer(7L, "x", true);  // 탈퇴 등으로 사용자 행이 없는 학생
+
+        List<String> lines = export();
+
+        assertThat(lines.get(0)).startsWith("\uFEFF학생 ID,이름,이메일,점수,만점,정답 수,제출 시각,Q1 답안,Q1 정답 여부");
+        assertThat(lines.get(1)).isEqualTo("5,Kim,kim@example.com,2,2,1,2026-03-01 09:30:15,x,O");
+        assertThat(lines.get(2)).isEqualTo("6,Lee,lee@example.com,0,2,0,2026-03-01 09:30:15,y,X");
+        assertThat(lines.get(3)).isEqualTo("7,,,2,2,1,2026-03-01 09:30:15,x,O");
+        assertThat(lines).hasSize(4);
+    }
+
+    @Test
+    void quotesSeparatorsQuotesAndLineBreaks() throws IOException {
+        student(5L, "Kim, Minji", "a\"b@example.com");
+        answer(5L, "line1\nline2", false);
+
+        assertThat(export().get(1))
+                .isEqualTo("5,\"Kim, Minji\",\"a\"\"b@example.com\",0,2,0,2026-03-01 09:30:15,\"line1\nline2\",X");
+    }
+
+    @Test
+    void prefixesValuesThatSpreadsheetsWouldEvaluate() throws IOException {
+        student(5L, "=HYPERLINK(\"http://evil\")", "+1@example.com");
+        student(6L, "@SUM(A1)", "ok@example.com");
+        answer(5L, "-2+3", false);
+        answer(6L, "plain", false);
+
+        List<String> lines = export();
+
+        assertThat(lines.get(1))
+                .isEqualTo("5,\"'=HYPERLINK(\"\"http://evil\"\")\",'+1@example.com,0,2,0,2026-03-01 09:30:15,'-2+3,X");
+        assertThat(lines.get(2)).startsWith("6,'@SUM(A1),ok@example.com,");
+    }
+
+    // === Helpers ===
+
+    private void student(Long studentId, String name, String email) {
+        Timestamp now = Timestamp.valueOf(ANSWERED_AT);
+        jdbcTemplate.update("INSERT INTO users (user_id, email, password, name, user_type, is_active, created_at, updated_at) " +
+                "VALUES (?, ?, 'password', ?, 'LEARNER', true, ?, ?)", studentId, email, name, now, now);
+    }
+
+    private void answer(Long studentId, String answer, boolean correct) {
+        answerRecordJdbcRepository.insertAll(List.of(QuizAnswerRecord.builder()
+                .quizId(QUIZ_ID)
+                .studentId(studentId)
+                .questionId(QUESTION_ID)
+                .answer(answer)
+                .isCorrect(correct)
+                .answeredAt(ANSWERED_AT)
+                .build()));
+    }
+
+    private List<String> export() throws IOException {
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(QUIZ_ID);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.writeCsv(quiz, output);
+        return List.of(output.toString(StandardCharsets.UTF_8).split("\r\n"));
+    }
+}
@@ -0,0 +1,266 @@
+package com.eddie.lms.domain.search.service;
+
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex.DocumentType;
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex.SearchHits;
+import com.eddie.lms.support.H2DataJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 적재 쿼리는 H2에서 실제로 실행하고, 적재 횟수 확인과 적재 중 변경 재현을 위해 JdbcTemplate을 감싸서 사용
+ * 커밋 후 반영을 직접 제어하도록 테스트 트랜잭션 없이 실행하고 매번 데이터를 지움
+ */
+@H2DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClassroomSearchIndexTest {
+
+    private static final Long CLASSROOM_ID = 10L;
+
+    @Autowired
+    private JdbcTemplate database;
+
+    private JdbcTemplate jdbcTemplate;
+    private ClassroomSearchIndex searchIndex;
+    private Runnable duringLoad;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = spy(database);
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            if (duringLoad != null) {
+                duringLoad.run();
+                duringLoad = null;
+            }
+            return result;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(CLASSROOM_ID));
+
+        searchIndex = new ClassroomSearchIndex(jdbcTemplate);
+        ReflectionTestUtils.setField(searchIndex, "maxIndexes", 500);
+        ReflectionTestUtils.setField(searchIndex, "maxAgeSeconds", 300L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        database.update("DELETE FROM lessons");
+        database.update("DELETE FROM curriculums");
+    }
+
+    @Test
+    void matchesOnlyDocumentsContainingAllBigrams() {
+        lesson(1, "자바 기초 강의", null, day(1));
+        lesson(2, "파이썬 기초", "자료형과 반복문", day(2));
+        lesson(3, "자료구조", "바 기초는 없음", day(3));
+
+        assertThat(search("기초").getIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(search("자바").getIds()).containsExactly(1L);
+        assertThat(search("자료").getIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(search("자바 기초").getIds()).containsExactly(1L);
+        assertThat(search("코틀린").getIds()).isEmpty();
+    }
+
+    @Test
+    void oneSyllableQueryChecksEveryDocument() {
+        lesson(1, "자바", null, day(1));
+        lesson(2, "파이썬", null, day(2));
+        lesson(3, "수학", "자연수", day(3));
+
+        SearchHits hits = search("자");
+
+        assertThat(hits.getIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(hits.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void foldsWidthAndCase() {
+        lesson(1, "ＪＡＶＡ Basics", null, day(1));
+        lesson(2, "Spring", "①단계 실습", day(2));
+
+        assertThat(search("java").getIds()).containsExactly(1L);
+        assertThat(search("BASICS").getIds()).containsExactly(1L);
+        assertThat(search("Ｓｐｒｉｎｇ").getIds()).containsExactly(2L);
+        assertThat(search("1단계").getIds()).containsExactly(2L);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveBodyMatches() {
+        lesson(1, "other", "spring spring spring", day(1));
+        lesson(2, "learn spring", null, day(2));
+        lesson(3, "spring boot", null, day(3));
+        lesson(4, "Spring", null, day(4));
+        lesson(5, "spring in spring", null, day(5));
+
+        // 제목 완전 일치 > 제목 시작(출현 2회) > 제목 시작 > 제목 포함 > 본문만
+        assertThat(search("spring").getIds()).containsExactly(4L, 5L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void breaksTiesByListOrder() {
+        lesson(1, "spring", null, day(1));
+        lesson(2, "spring", null, day(3));
+        lesson(3, "spring", null, day(2));
+
+        // 수업은 최신순
+        assertThat(search("spring").getIds()).containsExactly(2L, 3L, 1L);
+
+        curriculum(7, "spring", 2);
+        curriculum(8, "spring", 1);
+        curriculum(9, "spring", 1);
+
+        // 커리큘럼은 순서 번호순, 같으면 ID 역순
+        assertThat(searchIndex.search(DocumentType.CURRICULUM, CLASSROOM_ID, "spring", 0, 10).getIds())
+                .containsExactly(9L, 8L, 7L);
+    }
+
+    @Test
+    void pagesRankedHitsAndReportsTotal() {
+        for (long id = 1; id <= 5; id++) {
+            lesson(id, "spring " + id, null, day((int) id));
+        }
+        lesson(6, "kotlin", null, day(6));
+
+        SearchHits page = searchIndex.search(DocumentType.LESSON, CLASSROOM_ID, "spring", 2, 2);
+
+        assertThat(page.getIds()).containsExactly(3L, 2L);
+        assertThat(page.getTotal()).isEqualTo(5);
+        assertThat(searchIndex.search(DocumentType.LESSON, CLASSROOM_ID, "spring", 4, 2).getIds()).containsExactly(1L);
+        assertThat(searchIndex.search(DocumentType.LESSON, CLASSROOM_ID, "spring", 6, 2).getIds()).isEmpty();
+    }
+
+    @Test
+    void appliesChangesOnlyAfterCommit() {
+        lesson(1, "spring", null, day(1));
+        assertThat(search("spring").getIds()).containsExactly(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        searchIndex.index(DocumentType.LESSON, CLASSROOM_ID, 2L, "spring boot", null,
+                ClassroomSearchIndex.newestFirst(day(2)));
+        searchIndex.remove(DocumentType.LESSON, CLASSROOM_ID, 1L);
+
+        assertThat(search("spring").getIds()).containsExactly(1L);
+
+        commit();
+
+        assertThat(search("spring").getIds()).containsExactly(2L);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(CLASSROOM_ID));
+    }
+
+    @Test
+    void appliesChangesImmediatelyWithoutTransaction() {
+        lesson(1, "spring", null, day(1));
+        assertThat(search("spring").getIds()).containsExactly(1L);
+
+        searchIndex.index(DocumentType.LESSON, CLASSROOM_ID, 1L, "kotlin", null, ClassroomSearchIndex.newestFirst(day(1)));
+
+        assertThat(search("spring").getIds()).isEmpty();
+        assertThat(search("kotlin").getIds()).containsExactly(1L);
+    }
+
+    @Test
+    void doesNotKeepIndexLoadedBeforeConcurrentChange() {
+        lesson(1, "spring", null, day(1));
+        duringLoad = () -> searchIndex.remove(DocumentType.LESSON, CLASSROOM_ID, 1L);
+
+        assertThat(search("spring").getIds()).containsExactly(1L);
+
+        database.update("DELETE FROM lessons WHERE lesson_id = 1");
+        assertThat(search("spring").getIds()).isEmpty();
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(CLASSROOM_ID));
+    }
+
+    @Test
+    void keepsIndexLoadedWhileOtherClassroomChanges() {
+        lesson(1, "spring", null, day(1));
+        duringLoad = () -> searchIndex.remove(DocumentType.LESSON, CLASSROOM_ID + 1, 1L);
+
+        assertThat(search("spring").getIds()).containsExactly(1L);
+        assertThat(search("spring").getIds()).containsExactly(1L);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(CLASSROOM_ID));
+    }
+
+    @Test
+    void reloadsIndexOlderThanMaxAge() {
+        ReflectionTestUtils.setField(searchIndex, "maxAgeSeconds", 0L);
+        lesson(1, "spring", null, day(1));
+        assertThat(search("spring").getIds()).containsExactly(1L);
+
+        // 색인을 거치지 않은 변경 (다른 인스턴스, 직접 수정 등)
+        database.update("DELETE FROM lessons WHERE lesson_id = 1");
+        lesson(2, "spring boot", null, day(2));
+        assertThat(search("spring").getIds()).containsExactly(2L);
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), eq(CLASSROOM_ID));
+    }
+
+    @Test
+    void loadsHitsInChunksAndKeepsRankOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 2500; id >= 1; id--) {
+            ids.add(id);
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        List<Long> loaded = new SearchHits(ids, ids.size()).load(chunk -> {
+            chunkSizes.add(chunk.size());
+            // 조회 결과 순서는 순위와 무관하고, 그 사이 삭제된 ID는 빠질 수 있음
+            return chunk.stream().filter(id -> id != 7L).sorted().toList();
+        }, id -> id);
+
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+        assertThat(loaded).hasSize(2499).startsWith(2500L, 2499L).endsWith(8L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    // === Helpers ===
+
+    private SearchHits search(String keyword) {
+        return searchIndex.search(DocumentType.LESSON, CLASSROOM_ID, keyword, 0, 20);
+    }
+
+    private void lesson(long id, String title, String body, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        database.update("INSERT INTO lessons (lesson_id, classroom_id, title, description, is_completed, lesson_type, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, false, 'VIDEO', ?, ?)",
+                id, CLASSROOM_ID, title, body, timestamp, timestamp);
+    }
+
+    private void curriculum(long id, String title, int orderIndex) {
+        Timestamp timestamp = Timestamp.valueOf(day(0));
+        database.update("INSERT INTO curriculums (curriculum_id, classroom_id, title, order_index, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", id, CLASSROOM_ID, title, orderIndex, timestamp, timestamp);
+    }
+
+    private static LocalDateTime day(int day) {
+        return LocalDateTime.of(2026, 3, 1, 9, 0).plusDays(day);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,24 @@
+package com.eddie.lms.support;
+
+import com.eddie.lms.domain.search.service.ClassroomSearchIndex;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 임베디드 H2에서 엔티티 스키마를 생성해 실행하는 저장소/쿼리 테스트
+ * 실제로 전송되는 SQL을 그대로 실행하므로 컬럼 순서나 조인 오류도 함께 검증
+ * 사용자 정의 저장소 구현이 검색 색인을 주입받으므로 함께 등록
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import(ClassroomSearchIndex.class)
+public @interface H2DataJpaTest {
+}